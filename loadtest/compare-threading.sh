@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본) vs 가상 스레드(virtual-threads 프로필) 처리량/지연 시간 비교
+# 필요: Java 21, k6, 실행 중인 MySQL (SPRING_DATASOURCE_* 환경 변수)
+# 사용: ./loadtest/compare-threading.sh [VUS] [DURATION]
+set -euo pipefail
+
+VUS="${1:-200}"
+DURATION="${2:-60s}"
+PORT="${SERVER_PORT:-8080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RESULT_DIR="${ROOT_DIR}/build/loadtest"
+
+mkdir -p "${RESULT_DIR}"
+(cd "${ROOT_DIR}" && ./gradlew bootJar -PjavaVersion=21 --no-daemon -q)
+JAR="$(ls "${ROOT_DIR}"/build/libs/*.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local mode="$1"
+    local profile="$2"
+
+    echo "=== ${mode} (profile: ${profile:-default}) ==="
+    SPRING_PROFILES_ACTIVE="${profile}" SERVER_PORT="${PORT}" java -jar "${JAR}" > "${RESULT_DIR}/${mode}-app.log" 2>&1 &
+    local app_pid=$!
+    trap 'kill ${app_pid} 2>/dev/null || true' RETURN
+
+    until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    k6 run --quiet \
+        -e BASE_URL="http://localhost:${PORT}" -e VUS="${VUS}" -e DURATION="${DURATION}" \
+        --summary-export "${RESULT_DIR}/${mode}-summary.json" \
+        "${ROOT_DIR}/loadtest/menus-load.js"
+
+    kill "${app_pid}"
+    wait "${app_pid}" 2>/dev/null || true
+}
+
+run_mode platform ""
+run_mode virtual virtual-threads
+
+echo "결과: ${RESULT_DIR}/platform-summary.json, ${RESULT_DIR}/virtual-summary.json"
@@ -0,0 +1,49 @@
+// k6 부하 테스트: 목록 조회 / 추천 API의 처리량과 지연 시간 측정
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 -e DURATION=60s loadtest/menus-load.js
+// 플랫폼 스레드(기본)와 virtual-threads 프로필 비교는 loadtest/compare-threading.sh 참고
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200', 10);
+const DURATION = __ENV.DURATION || '60s';
+
+const listLatency = new Trend('menus_list_latency', true);
+const recommendLatency = new Trend('menus_recommend_latency', true);
+
+export const options = {
+    scenarios: {
+        list: {
+            executor: 'constant-vus',
+            exec: 'list',
+            vus: Math.ceil(VUS / 2),
+            duration: DURATION,
+        },
+        recommend: {
+            executor: 'constant-vus',
+            exec: 'recommend',
+            vus: Math.floor(VUS / 2),
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function list() {
+    const res = http.get(`${BASE_URL}/api/menus?limit=20`, { tags: { endpoint: 'list' } });
+    check(res, { 'list 200': (r) => r.status === 200 });
+    listLatency.add(res.timings.duration);
+}
+
+export function recommend() {
+    // 첫 요청에서 서버가 발급한 클라이언트 ID 쿠키를 VU별 쿠키 저장소에 담아 이후 요청에 재사용 (세션 생성 없음)
+    const res = http.get(`${BASE_URL}/api/menus/recommend`, {
+        tags: { endpoint: 'recommend' },
+    });
+    check(res, { 'recommend 200': (r) => r.status === 200 });
+    recommendLatency.add(res.timings.duration);
+}
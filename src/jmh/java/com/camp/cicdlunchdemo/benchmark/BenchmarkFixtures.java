@@ -0,0 +1,126 @@
+package com.camp.cicdlunchdemo.benchmark;
+
+import com.camp.cicdlunchdemo.CicdLunchDemoApplication;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 메뉴 데이터/애플리케이션 컨텍스트 생성 유틸리티
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+    private static final String INSERT_SQL = "INSERT INTO lunch_menu "
+            + "(name, description, category, spicy_level, weight, weight_start, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final Category[] CATEGORIES = Category.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * ID가 1부터 순서대로 부여된 메뉴 목록 생성 (weight 1~5, spicyLevel 0~3 고정 시드 랜덤)
+     */
+    public static List<LunchMenu> menus(int size) {
+        Random random = new Random(SEED);
+        List<LunchMenu> menus = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LunchMenu menu = LunchMenu.builder()
+                    .name("메뉴" + i)
+                    .description("벤치마크 메뉴")
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .spicyLevel(random.nextInt(4))
+                    .weight(1 + random.nextInt(5))
+                    .build();
+            setId(menu, i + 1L);
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    /**
+     * 1 ~ catalogSize 범위에서 중복 없는 제외 ID 생성
+     */
+    public static Set<Long> excludeIds(int catalogSize, int excludeSize) {
+        Random random = new Random(SEED + 1);
+        Set<Long> excludeIds = new HashSet<>();
+        int target = Math.min(excludeSize, catalogSize);
+        while (excludeIds.size() < target) {
+            excludeIds.add(1L + random.nextInt(catalogSize));
+        }
+        return excludeIds;
+    }
+
+    /**
+     * H2 인메모리 DB로 애플리케이션 컨텍스트 기동 (Flyway 대신 ddl-auto, 요청 추적 비활성화)
+     * 서비스는 생성자를 직접 호출하지 않고 컨텍스트에서 꺼내 쓰므로 의존성이 바뀌어도 벤치마크를 고칠 필요가 없음
+     * @param properties 추가/덮어쓸 설정 (key=value)
+     */
+    public static ConfigurableApplicationContext startApplication(String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "server.port=0",
+                // 파라미터 조합(트라이얼)마다 새 DB를 쓰도록 이름을 매번 바꿈
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "spring.flyway.enabled=false",
+                "lunch.trace.enabled=false",
+                "logging.level.root=WARN"));
+        defaults.addAll(List.of(properties));
+        return new SpringApplicationBuilder(CicdLunchDemoApplication.class)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * 메뉴를 JDBC 배치로 저장 (빈 테이블이면 ID가 1부터 순서대로 부여되어 menus()의 ID와 일치)
+     * 가중치 구간은 빈틈없이 이어 붙이며, 저장 후 카탈로그를 무효화
+     */
+    public static void insertMenus(ConfigurableApplicationContext context, List<LunchMenu> menus) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime now = LocalDateTime.now();
+        long weightStart = 0;
+        List<Object[]> batchArgs = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (LunchMenu menu : menus) {
+            batchArgs.add(new Object[]{
+                    menu.getName(), menu.getDescription(), menu.getCategory().name(),
+                    menu.getSpicyLevel(), menu.getWeight(), weightStart, now, now});
+            weightStart += menu.getWeight();
+            if (batchArgs.size() == INSERT_CHUNK_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+                batchArgs.clear();
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        }
+        context.getBean(MenuCatalog.class).invalidate();
+    }
+
+    private static void setId(LunchMenu menu, Long id) {
+        try {
+            Field idField = LunchMenu.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(menu, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
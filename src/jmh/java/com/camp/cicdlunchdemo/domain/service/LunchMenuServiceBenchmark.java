@@ -0,0 +1,99 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.benchmark.BenchmarkFixtures;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LunchMenuService 추천 경로 벤치마크
+ * H2 인메모리 DB로 띄운 컨텍스트의 서비스를 사용 (카탈로그 모드에서는 스냅샷이 최신인 동안 DB를 조회하지 않으므로
+ * 서비스/카탈로그/전략 비용이 측정되고, 무효화 벤치마크에서만 DB 재조회 비용이 포함됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LunchMenuServiceBenchmark {
+
+    @Param({"15", "1000", "100000", "1000000"})
+    private int catalogSize;
+
+    @Param({"0", "5", "50"})
+    private int excludeSize;
+
+    private ConfigurableApplicationContext context;
+    private LunchMenuService lunchMenuService;
+    private MenuCatalog menuCatalog;
+    private Set<Long> excludeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        BenchmarkFixtures.insertMenus(context, BenchmarkFixtures.menus(catalogSize));
+        lunchMenuService = context.getBean(LunchMenuService.class);
+        menuCatalog = context.getBean(MenuCatalog.class);
+        excludeIds = BenchmarkFixtures.excludeIds(catalogSize, excludeSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> recommendRandom() {
+        return lunchMenuService.recommendRandom();
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> recommendWeightedRandomExcluding() {
+        return lunchMenuService.recommendWeightedRandomExcluding(excludeIds);
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> recommendAliasMethodExcluding() {
+        return lunchMenuService.recommendExcluding("ALIAS_METHOD", excludeIds);
+    }
+
+    /**
+     * 매 호출마다 카탈로그를 무효화하여 스냅샷 재구성 비용까지 포함한 최악의 경우를 측정
+     */
+    @Benchmark
+    public Optional<LunchMenu> recommendWeightedAfterInvalidate() {
+        menuCatalog.invalidate();
+        return lunchMenuService.recommendWeightedRandomExcluding(excludeIds);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<LunchMenu> recommendWeightedRandomExcluding4Threads() {
+        return lunchMenuService.recommendWeightedRandomExcluding(excludeIds);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<LunchMenu> recommendAliasMethodExcluding4Threads() {
+        return lunchMenuService.recommendExcluding("ALIAS_METHOD", excludeIds);
+    }
+}
@@ -0,0 +1,134 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.benchmark.BenchmarkFixtures;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.exception.MenuConcurrentModificationException;
+import com.camp.cicdlunchdemo.domain.exception.MenuNotFoundException;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 수정 쓰기 경로 벤치마크 (H2 인메모리 DB, 애플리케이션 컨텍스트 기동)
+ * - loadThenUpdate: 엔티티 조회 + 버전 비교 + 더티 체킹 UPDATE (기존 방식)
+ * - conditionalUpdate: WHERE id = ? AND version = ? AND weight = ? 조건부 UPDATE 한 문장
+ * - serviceUpdate: LunchMenuService.update 전체 (가중치가 그대로인 일반 경로, 카탈로그 무효화와 반환할 메뉴 구성 포함)
+ * 실행: ./gradlew jmh -PjmhIncludes=MenuUpdateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuUpdateBenchmark {
+
+    // 2차 캐시가 켜져 있으면 기존 방식의 엔티티 조회가 캐시에서 끝날 수 있으므로 두 경우를 모두 측정
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private LunchMenuRepository lunchMenuRepository;
+    private LunchMenuService lunchMenuService;
+    private TransactionTemplate transactionTemplate;
+
+    private Long legacyMenuId;
+    private Long legacyVersion;
+    private Long conditionalMenuId;
+    private Long conditionalVersion;
+    private Long serviceMenuId;
+    private Long serviceVersion;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache);
+        lunchMenuRepository = context.getBean(LunchMenuRepository.class);
+        lunchMenuService = context.getBean(LunchMenuService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        LunchMenu legacy = lunchMenuService.save(form("기존 방식", null));
+        legacyMenuId = legacy.getId();
+        legacyVersion = legacy.getVersion();
+        LunchMenu conditional = lunchMenuService.save(form("조건부 UPDATE", null));
+        conditionalMenuId = conditional.getId();
+        conditionalVersion = conditional.getVersion();
+        LunchMenu service = lunchMenuService.save(form("서비스", null));
+        serviceMenuId = service.getId();
+        serviceVersion = service.getVersion();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long loadThenUpdate() {
+        String name = nextName();
+        LunchMenu menu = transactionTemplate.execute(status -> {
+            LunchMenu loaded = lunchMenuRepository.findById(legacyMenuId)
+                    .orElseThrow(() -> new MenuNotFoundException(legacyMenuId));
+            if (!legacyVersion.equals(loaded.getVersion())) {
+                throw new MenuConcurrentModificationException();
+            }
+            loaded.update(name, null, Category.KOREAN, 0, 1);
+            return loaded;
+        });
+        legacyVersion = menu.getVersion();
+        return legacyVersion;
+    }
+
+    @Benchmark
+    public int conditionalUpdate() {
+        String name = nextName();
+        Integer updated = transactionTemplate.execute(status -> lunchMenuRepository.updateIfVersionKeepingWeight(
+                conditionalMenuId, conditionalVersion, name, null, Category.KOREAN, 0, 1, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            throw new MenuConcurrentModificationException();
+        }
+        conditionalVersion++;
+        return updated;
+    }
+
+    @Benchmark
+    public Long serviceUpdate() {
+        serviceVersion = lunchMenuService.update(serviceMenuId, form(nextName(), serviceVersion)).getVersion();
+        return serviceVersion;
+    }
+
+    /**
+     * 매번 다른 이름으로 수정해 실제로 UPDATE가 일어나도록 함
+     */
+    private String nextName() {
+        return "메뉴" + (sequence++ % 1000);
+    }
+
+    private static LunchMenuForm form(String name, Long version) {
+        return LunchMenuForm.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .version(version)
+                .build();
+    }
+}
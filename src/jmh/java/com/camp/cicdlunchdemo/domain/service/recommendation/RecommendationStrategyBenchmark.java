@@ -0,0 +1,134 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.benchmark.BenchmarkFixtures;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 전략 핫패스 벤치마크
+ * 같은 패키지에 두어 protected인 filterCandidates도 직접 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationStrategyBenchmark {
+
+    @Param({"15", "1000", "100000", "1000000"})
+    private int catalogSize;
+
+    @Param({"0", "5", "50"})
+    private int excludeSize;
+
+    private List<LunchMenu> menus;
+    private MenuSnapshot snapshot;
+    private Set<Long> excludeIds;
+    private MenuFilter filter;
+
+    private final SimpleRandomStrategy simpleRandomStrategy = new SimpleRandomStrategy(new SimpleMeterRegistry());
+    private final WeightedRandomStrategy weightedRandomStrategy = new WeightedRandomStrategy(new SimpleMeterRegistry());
+    private final AliasMethodStrategy aliasMethodStrategy = new AliasMethodStrategy(new SimpleMeterRegistry());
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        menus = BenchmarkFixtures.menus(catalogSize);
+        snapshot = MenuSnapshot.of(1L, menus);
+        excludeIds = BenchmarkFixtures.excludeIds(catalogSize, excludeSize);
+        filter = MenuFilter.builder()
+                .maxSpicyLevel(1)
+                .excludedCategories(Set.of(Category.JAPANESE))
+                .minWeight(3)
+                .build();
+
+        // 스냅샷 파생 자료구조는 버전당 한 번 생성되므로 측정 전에 미리 만들어 둠
+        weightedRandomStrategy.recommend(snapshot, excludeIds);
+        aliasMethodStrategy.recommend(snapshot, excludeIds);
+        weightedRandomStrategy.recommend(snapshot, filter, excludeIds);
+    }
+
+    // ===== 목록 기반 (기존 경로) =====
+
+    @Benchmark
+    public Optional<LunchMenu> simpleRandomList() {
+        return simpleRandomStrategy.recommend(menus, excludeIds);
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> weightedRandomList() {
+        return weightedRandomStrategy.recommend(menus, excludeIds);
+    }
+
+    @Benchmark
+    public List<LunchMenu> filterCandidates() {
+        return weightedRandomStrategy.filterCandidates(menus, excludeIds);
+    }
+
+    // ===== 스냅샷 기반 =====
+
+    @Benchmark
+    public Optional<LunchMenu> weightedRandomSnapshot() {
+        return weightedRandomStrategy.recommend(snapshot, excludeIds);
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> aliasMethodSnapshot() {
+        return aliasMethodStrategy.recommend(snapshot, excludeIds);
+    }
+
+    // ===== 속성 필터 =====
+
+    /**
+     * 엔티티를 순회하며 조건 검사 (RecommendationStrategy 기본 구현과 동일)
+     */
+    @Benchmark
+    public Optional<LunchMenu> weightedRandomFilterScan() {
+        return weightedRandomStrategy.recommend(menus.stream().filter(filter::matches).toList(), excludeIds);
+    }
+
+    @Benchmark
+    public Optional<LunchMenu> weightedRandomFilterBitSet() {
+        return weightedRandomStrategy.recommend(snapshot, filter, excludeIds);
+    }
+
+    // ===== 멀티 스레드 =====
+
+    @Benchmark
+    @Threads(4)
+    public Optional<LunchMenu> weightedRandomList4Threads() {
+        return weightedRandomStrategy.recommend(menus, excludeIds);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<LunchMenu> weightedRandomSnapshot4Threads() {
+        return weightedRandomStrategy.recommend(snapshot, excludeIds);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<LunchMenu> aliasMethodSnapshot4Threads() {
+        return aliasMethodStrategy.recommend(snapshot, excludeIds);
+    }
+}
@@ -0,0 +1,19 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메뉴 일괄 등록 설정 (lunch.bulk-import.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.bulk-import")
+public class BulkImportProperties {
+
+    /**
+     * 한 번의 JDBC 배치/트랜잭션으로 저장할 행 수
+     */
+    private int chunkSize = 500;
+}
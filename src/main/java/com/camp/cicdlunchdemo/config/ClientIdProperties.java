@@ -0,0 +1,27 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 추천 기록 키(클라이언트 ID) 발급 설정 (lunch.client-id.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.client-id")
+public class ClientIdProperties {
+
+    /**
+     * 발급한 ID의 HMAC 서명 키 (레플리카가 둘 이상이면 모든 노드에 같은 값을 지정)
+     * 비워 두면 기동할 때마다 새 키를 만들므로 재시작하면 이전에 발급한 ID가 모두 무효가 됨
+     */
+    private String secret = "";
+
+    /**
+     * 발급한 ID를 담는 쿠키의 유효 기간
+     */
+    private Duration cookieMaxAge = Duration.ofDays(30);
+}
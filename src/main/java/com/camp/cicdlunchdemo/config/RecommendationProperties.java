@@ -0,0 +1,63 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 추천 관련 설정 (lunch.recommendation.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.recommendation")
+public class RecommendationProperties {
+
+    /**
+     * 추천 후보를 뽑는 위치
+     */
+    private SamplingMode samplingMode = SamplingMode.CATALOG;
+
+    /**
+     * 최근 추천 기록 설정
+     */
+    private History history = new History();
+
+    @Getter
+    @Setter
+    public static class History {
+
+        /**
+         * 기록 저장소 (memory: 노드 로컬, jdbc: 여러 노드가 공유하는 DB 테이블)
+         */
+        private Store store = Store.MEMORY;
+
+        /**
+         * 추천에서 제외할 최근 기록 개수
+         */
+        private int windowSize = 5;
+
+        /**
+         * 마지막 추천 이후 기록을 유지하는 시간
+         */
+        private Duration ttl = Duration.ofMinutes(30);
+
+        public enum Store {
+            MEMORY,
+            JDBC
+        }
+    }
+
+    public enum SamplingMode {
+        /** 인메모리 카탈로그 스냅샷에서 선택 */
+        CATALOG,
+        /**
+         * DB 인덱스를 이용해 한 행만 조회
+         * 후보 조건(카테고리/맵기/가중치 필터)을 지정한 추천은 이 모드에서도 카탈로그 스냅샷을 사용하므로,
+         * 필터 추천이 한 번이라도 들어오면 전체 메뉴를 노드 메모리에 적재하고 변경 시마다 다시 읽음
+         * (메모리에 올리기 어려울 만큼 카탈로그가 크면 필터 추천을 쓰지 말 것)
+         */
+        DATABASE
+    }
+}
@@ -0,0 +1,29 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메뉴 목록 직렬화 결과 캐시 설정 (lunch.response-cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * false면 매 요청마다 직렬화 (캐시 없이 같은 경로로 응답)
+     */
+    private boolean enabled = true;
+
+    /**
+     * gzip 압축본도 함께 만들어 두고 Accept-Encoding: gzip 요청에 그대로 응답
+     */
+    private boolean gzip = true;
+
+    /**
+     * 이보다 작은 응답은 압축하지 않음 (바이트)
+     */
+    private int gzipMinSize = 1024;
+}
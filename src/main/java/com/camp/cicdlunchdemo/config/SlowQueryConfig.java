@@ -0,0 +1,47 @@
+package com.camp.cicdlunchdemo.config;
+
+import com.camp.cicdlunchdemo.domain.repository.SlowRepositoryInvocationListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * 느린 쿼리 감지 (lunch.slow-query.threshold 하나로 두 단계에 적용)
+ * - SQL 문장: Hibernate 느린 쿼리 로그 (hibernate.log_slow_query, org.hibernate.SQL_SLOW 로거)
+ * - 리포지토리 메서드: SlowRepositoryInvocationListener (로그 + 메트릭)
+ * 메서드별 실행 시간은 Spring Boot가 spring.data.repository.invocations{repository, method} 타이머로,
+ * 쿼리 실행/캐시 통계 합계는 hibernate.* 메트릭으로 노출하므로 쿼리 문자열을 태그로 쓰는 메트릭은 따로 두지 않음
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryLogCustomizer(SlowQueryProperties slowQueryProperties) {
+        return properties -> properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryProperties.getThreshold().toMillis());
+    }
+
+    /**
+     * 리포지토리 팩토리에 리스너를 등록하는 후처리기
+     * 후처리기는 다른 빈보다 먼저 만들어지므로 리스너는 리포지토리 생성 시점에 조회
+     */
+    @Bean
+    public static BeanPostProcessor slowRepositoryInvocationListenerRegistrar(
+            ObjectProvider<SlowRepositoryInvocationListener> listenerProvider) {
+        SingletonSupplier<SlowRepositoryInvocationListener> listener = SingletonSupplier.of(listenerProvider::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(invocation -> listener.obtain().afterInvocation(invocation)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 느린 쿼리 감지 설정 (lunch.slow-query.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * 이 시간 이상 걸린 리포지토리 호출/SQL을 느린 쿼리로 기록
+     */
+    private Duration threshold = Duration.ofMillis(200);
+}
@@ -0,0 +1,52 @@
+package com.camp.cicdlunchdemo.config;
+
+import com.camp.cicdlunchdemo.trace.CountingDataSourceBeanPostProcessor;
+import com.camp.cicdlunchdemo.trace.RequestTraceBuffer;
+import com.camp.cicdlunchdemo.trace.RequestTraceEndpoint;
+import com.camp.cicdlunchdemo.trace.RequestTraceObservationHandler;
+import com.camp.cicdlunchdemo.trace.TraceSpanBeanPostProcessor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 핫패스 추적 (lunch.trace.enabled=true 일 때만 활성, 꺼져 있으면 프록시/DataSource 래핑 없음)
+ * HTTP 요청 Observation 아래에 컨트롤러/서비스/리포지토리/전략 구간과 JDBC 문장·행 수를 기록하고
+ * 최근 요청을 원형 버퍼에 보관하여 actuator requesttraces 엔드포인트로 노출
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "lunch.trace", name = "enabled", havingValue = "true")
+public class TraceConfig {
+
+    /**
+     * 후처리기는 다른 빈보다 먼저 만들어져야 하므로 static으로 등록하고, ObservationRegistry는 호출 시점에 조회
+     */
+    @Bean
+    public static TraceSpanBeanPostProcessor traceSpanBeanPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new TraceSpanBeanPostProcessor(observationRegistry);
+    }
+
+    @Bean
+    public static CountingDataSourceBeanPostProcessor countingDataSourceBeanPostProcessor() {
+        return new CountingDataSourceBeanPostProcessor();
+    }
+
+    @Bean
+    public RequestTraceBuffer requestTraceBuffer(TraceProperties traceProperties) {
+        return new RequestTraceBuffer(traceProperties.getBufferSize());
+    }
+
+    @Bean
+    public RequestTraceObservationHandler requestTraceObservationHandler(RequestTraceBuffer requestTraceBuffer,
+                                                                         TraceProperties traceProperties) {
+        return new RequestTraceObservationHandler(requestTraceBuffer, traceProperties.getMaxSpans());
+    }
+
+    @Bean
+    public RequestTraceEndpoint requestTraceEndpoint(RequestTraceBuffer requestTraceBuffer) {
+        return new RequestTraceEndpoint(requestTraceBuffer);
+    }
+}
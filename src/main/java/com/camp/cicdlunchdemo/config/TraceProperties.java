@@ -0,0 +1,29 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청별 핫패스 추적 설정 (lunch.trace.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.trace")
+public class TraceProperties {
+
+    /**
+     * 컨트롤러/서비스/리포지토리/전략 구간과 JDBC 문장·행 수 추적 여부 (기본 꺼짐, local 프로파일에서 켬)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 최근 요청 추적 결과를 보관할 개수 (원형 버퍼)
+     */
+    private int bufferSize = 200;
+
+    /**
+     * 요청 하나에 기록할 최대 구간 수 (초과분은 개수만 집계)
+     */
+    private int maxSpans = 64;
+}
@@ -0,0 +1,48 @@
+package com.camp.cicdlunchdemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 메뉴 수정/삭제 write-behind 설정 (lunch.write-behind.*)
+ * 대기 중인 변경이 노드 메모리에만 있으므로 단일 노드에서만 켤 것
+ * DB 샘플링 모드와는 함께 켤 수 없고, 키셋 페이지/내보내기에는 반영 전까지 변경이 보이지 않음
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lunch.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * 수정/삭제를 대기열에 넣고 주기적으로 모아서 반영할지 여부 (false면 요청마다 동기 트랜잭션)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 메뉴의 변경을 연속으로 반영하지 못하면 버리는 시도 횟수
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 대기 중인 메뉴 수 상한 (가득 차면 새 메뉴의 변경은 동기로 반영)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 한 트랜잭션으로 반영할 최대 메뉴 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 대기열을 DB에 반영하는 주기
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 충돌/실패로 버려진 변경을 단건 조회(409)로 알리기 위해 보관하는 기간
+     */
+    private Duration lostWriteRetention = Duration.ofMinutes(10);
+}
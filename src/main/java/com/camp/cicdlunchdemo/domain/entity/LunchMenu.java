@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +14,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "lunch_menu")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "lunch_menu", indexes = {
+        @Index(name = "idx_lunch_menu_weight_start", columnList = "weight_start"),
+        @Index(name = "idx_lunch_menu_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_lunch_menu_category_created_at_id", columnList = "category, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -38,6 +46,12 @@ public class LunchMenu {
     @Column(nullable = false)
     private int weight;
 
+    /**
+     * 누적 가중치 구간 시작점 (DB 측 가중치 샘플링용, 구간 = [weightStart, weightStart + weight))
+     */
+    @Column(nullable = false)
+    private long weightStart;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -65,4 +79,37 @@ public class LunchMenu {
         this.spicyLevel = spicyLevel;
         this.weight = weight;
     }
+
+    public void assignWeightStart(long weightStart) {
+        this.weightStart = weightStart;
+    }
+
+    /**
+     * 영속성 컨텍스트에 붙지 않는 사본 (write-behind 대기 중인 변경을 카탈로그에 반영할 때 사용)
+     */
+    public LunchMenu detachedCopy() {
+        LunchMenu copy = new LunchMenu(name, description, category, spicyLevel, weight);
+        copy.id = id;
+        copy.weightStart = weightStart;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * 조건부 UPDATE로 기록한(또는 기록할) 버전/수정 시각 지정 (사본 전용, 영속 엔티티는 JPA가 관리)
+     */
+    public void markModified(Long version, LocalDateTime updatedAt) {
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 폼으로 만든 사본에 조건부 UPDATE로 기록한 ID/버전/수정 시각 지정 (DB를 다시 읽지 않으므로 구간 시작점과 생성 시각은 비어 있음)
+     */
+    public void markModified(Long id, Long version, LocalDateTime updatedAt) {
+        this.id = id;
+        markModified(version, updatedAt);
+    }
 }
@@ -0,0 +1,41 @@
+package com.camp.cicdlunchdemo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트별 최근 추천 기록 (JDBC 기록 저장소 테이블 매핑)
+ * 읽기/쓰기는 JdbcRecommendationHistoryStore에서 JDBC로 수행하며, 엔티티는 스키마 정의/검증용
+ */
+@Entity
+@Table(name = "recommendation_history", indexes = {
+        @Index(name = "idx_recommendation_history_recommended_at", columnList = "recommended_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecommendationHistory {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private LocalDateTime recommendedAt;
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(length = 64)
+        private String clientId;
+
+        private Long menuId;
+    }
+}
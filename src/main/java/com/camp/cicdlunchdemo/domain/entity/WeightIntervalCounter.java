@@ -0,0 +1,29 @@
+package com.camp.cicdlunchdemo.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가중치 구간 할당 카운터 (단일 행, id = 1)
+ * 읽기/쓰기는 DatabaseMenuSampler에서 JDBC(SELECT ... FOR UPDATE)로 수행하며, 엔티티는 스키마 정의/검증용
+ */
+@Entity
+@Table(name = "weight_interval_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeightIntervalCounter {
+
+    @Id
+    private Integer id;
+
+    /**
+     * 다음에 할당할 구간의 시작점
+     */
+    @Column(nullable = false)
+    private long nextStart;
+}
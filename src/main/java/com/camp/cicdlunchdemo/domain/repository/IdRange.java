@@ -0,0 +1,11 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+/**
+ * 메뉴 ID 범위 (테이블이 비어 있으면 두 값 모두 null)
+ */
+public interface IdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -0,0 +1,42 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * LunchMenu 2차 캐시 무효화
+ * JPA를 거친 변경은 Hibernate가 캐시를 갱신하지만, JdbcTemplate으로 lunch_menu를 직접 수정한 경우
+ * (일괄 등록, 가중치 구간 재계산 등) 엔티티/쿼리 캐시가 낡으므로 이 컴포넌트로 비워야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class LunchMenuCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 즉시 비우고, 트랜잭션 안이면 완료 시점에 한 번 더 비움
+     * (커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올려둔 경우 대비)
+     */
+    public void evictAll() {
+        evictNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow();
+                }
+            });
+        }
+    }
+
+    private void evictNow() {
+        entityManagerFactory.getCache().evict(LunchMenu.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
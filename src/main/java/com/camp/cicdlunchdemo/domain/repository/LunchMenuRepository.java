@@ -2,17 +2,165 @@ package com.camp.cicdlunchdemo.domain.repository;
 
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LunchMenuRepository extends JpaRepository<LunchMenu, Long> {
 
+    // 목록 조회용 프로젝션 (생성자 표현식 DTO라 영속성 컨텍스트에 올라가지 않음, 하이드레이션/더티 체킹 없음)
+    String SELECT_SUMMARY = "SELECT new com.camp.cicdlunchdemo.domain.repository.MenuSummary("
+            + "m.id, m.name, m.description, m.category, m.spicyLevel, m.weight, m.createdAt) "
+            + "FROM LunchMenu m ";
+
+    String KEYSET_AFTER = "(m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) ";
+
+    String ORDER_BY_KEYSET = "ORDER BY m.createdAt DESC, m.id DESC";
+
+    // ===== 엔티티 목록 (2차 쿼리 캐시, lunch_menu 변경 시 Hibernate가 자동 무효화) =====
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LunchMenu> findAllByOrderByCreatedAtDesc();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LunchMenu> findByCategoryOrderByCreatedAtDesc(Category category);
 
-    @Query("SELECT m FROM LunchMenu m ORDER BY FUNCTION('RAND')")
-    List<LunchMenu> findAllRandomOrder();
+    // ===== 목록 조회용 프로젝션 =====
+
+    @Query(SELECT_SUMMARY + ORDER_BY_KEYSET)
+    List<MenuSummary> findAllSummaries();
+
+    @Query(SELECT_SUMMARY + "WHERE m.category = :category " + ORDER_BY_KEYSET)
+    List<MenuSummary> findSummariesByCategory(@Param("category") Category category);
+
+    // ===== 키셋 페이지네이션 (created_at, id) =====
+
+    @Query(SELECT_SUMMARY + ORDER_BY_KEYSET)
+    Slice<MenuSummary> findSummarySlice(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE " + KEYSET_AFTER + ORDER_BY_KEYSET)
+    Slice<MenuSummary> findSummarySliceAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE m.category = :category " + ORDER_BY_KEYSET)
+    Slice<MenuSummary> findSummarySliceByCategory(@Param("category") Category category, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE m.category = :category AND " + KEYSET_AFTER + ORDER_BY_KEYSET)
+    Slice<MenuSummary> findSummarySliceByCategoryAfter(@Param("category") Category category,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    // ===== 내보내기 (서버 측 커서로 한 행씩 스트리밍, 호출 측에서 Stream을 닫아야 함) =====
+    // 전체 테이블을 한 번 훑는 조회이므로 2차 캐시를 읽지도 채우지도 않음 (자주 쓰는 엔티티가 밀려나지 않게)
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT m FROM LunchMenu m ORDER BY m.id")
+    Stream<LunchMenu> streamAllByOrderByIdAsc();
+
+    // ===== 조건부 GET (엔티티 대신 버전 정보만 조회) =====
+
+    @Query("SELECT m.version AS version, m.updatedAt AS updatedAt FROM LunchMenu m WHERE m.id = :id")
+    Optional<MenuVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(m) AS count, MAX(m.id) AS maxId, COALESCE(SUM(m.version), 0) AS versionSum "
+            + "FROM LunchMenu m")
+    MenuListVersion findListVersion();
+
+    // ===== DB 측 샘플링 (전체 정렬 없이 인덱스로 한 행만 조회) =====
+
+    @Query("SELECT MIN(m.id) AS minId, MAX(m.id) AS maxId FROM LunchMenu m")
+    IdRange findIdRange();
+
+    Optional<LunchMenu> findFirstByIdGreaterThanEqualOrderByIdAsc(Long id);
+
+    Optional<LunchMenu> findFirstByOrderByWeightStartDesc();
+
+    Optional<LunchMenu> findFirstByWeightStartLessThanEqualOrderByWeightStartDescIdDesc(long point);
+
+    // 재추첨으로 더 찾지 못한 경우에만 사용 (남은 후보를 직접 조회)
+    List<LunchMenu> findByIdNotIn(Collection<Long> ids, Limit limit);
+
+    // ===== 조건부 수정/삭제 (한 문장, 반영된 행 수 반환) =====
+
+    /**
+     * 버전과 가중치가 그대로일 때만 가중치 외의 필드를 수정하고 버전을 1 올림 (가중치와 구간은 유지)
+     * 수정 대부분은 가중치를 바꾸지 않으므로 기준 메뉴를 읽지 않고 이 문장부터 실행
+     * @param weight 폼의 가중치 (DB의 가중치와 다르면 반영하지 않음)
+     * @return 반영된 행 수 (0이면 없는 메뉴, 버전 불일치, 가중치 변경 중 하나)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LunchMenu m SET m.name = :name, m.description = :description, m.category = :category, "
+            + "m.spicyLevel = :spicyLevel, m.updatedAt = :updatedAt, m.version = m.version + 1 "
+            + "WHERE m.id = :id AND m.version = :version AND m.weight = :weight")
+    int updateIfVersionKeepingWeight(@Param("id") Long id, @Param("version") Long version,
+                                     @Param("name") String name, @Param("description") String description,
+                                     @Param("category") Category category, @Param("spicyLevel") int spicyLevel,
+                                     @Param("weight") int weight, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 버전이 그대로일 때만 필드를 수정하고 버전을 1 올림
+     * 가중치가 바뀌면 구간 크기가 달라지므로 nextWeightStart에 새 구간을 붙임
+     * (MySQL은 SET을 왼쪽부터 적용하므로 weight보다 weightStart를 먼저 계산)
+     * @return 반영된 행 수 (0이면 없는 메뉴 또는 버전 불일치)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LunchMenu m SET "
+            + "m.weightStart = CASE WHEN m.weight = :weight THEN m.weightStart ELSE :nextWeightStart END, "
+            + "m.weight = :weight, m.name = :name, m.description = :description, m.category = :category, "
+            + "m.spicyLevel = :spicyLevel, m.updatedAt = :updatedAt, m.version = m.version + 1 "
+            + "WHERE m.id = :id AND m.version = :version")
+    int updateIfVersionWithWeight(@Param("id") Long id, @Param("version") Long version,
+                                  @Param("name") String name, @Param("description") String description,
+                                  @Param("category") Category category, @Param("spicyLevel") int spicyLevel,
+                                  @Param("weight") int weight, @Param("nextWeightStart") long nextWeightStart,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * ID로 삭제 (엔티티를 로딩하지 않음)
+     * @return 삭제된 행 수 (0이면 없는 메뉴)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM LunchMenu m WHERE m.id = :id")
+    int deleteMenuById(@Param("id") Long id);
+
+    // ===== write-behind 반영 (조건부 UPDATE) =====
+
+    /**
+     * 기준 버전일 때만 필드/수정 시각/버전을 menu 값으로 덮어씀
+     * (write-behind에서 합쳐진 여러 번의 수정을 한 문장으로 반영하며, 버전은 마지막 수정의 버전으로 기록)
+     * 가중치 구간은 대기 중인 사본의 값을 쓰지 않음 (그 사이 압축으로 옮겨졌을 수 있음)
+     * 가중치가 같으면 DB의 구간을 유지하고, 바뀐 경우에만 nextWeightStart에 새 구간을 붙임 (updateIfVersionWithWeight와 동일)
+     * @param nextWeightStart 가중치가 바뀐 경우 새로 할당한 구간 시작점 (바뀌지 않았으면 사용되지 않음)
+     * @return 반영된 행 수 (0이면 그 사이 다른 곳에서 수정/삭제됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LunchMenu m SET "
+            + "m.weightStart = CASE WHEN m.weight = :#{#menu.weight} THEN m.weightStart ELSE :nextWeightStart END, "
+            + "m.weight = :#{#menu.weight}, m.name = :#{#menu.name}, m.description = :#{#menu.description}, "
+            + "m.category = :#{#menu.category}, m.spicyLevel = :#{#menu.spicyLevel}, "
+            + "m.updatedAt = :#{#menu.updatedAt}, m.version = :#{#menu.version} "
+            + "WHERE m.id = :#{#menu.id} AND m.version = :expectedVersion")
+    int updateIfVersion(@Param("menu") LunchMenu menu, @Param("expectedVersion") Long expectedVersion,
+                        @Param("nextWeightStart") long nextWeightStart);
 }
@@ -0,0 +1,13 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+/**
+ * 메뉴 전체의 버전 집계 (테이블이 비어 있으면 maxId는 null)
+ */
+public interface MenuListVersion {
+
+    Long getCount();
+
+    Long getMaxId();
+
+    Long getVersionSum();
+}
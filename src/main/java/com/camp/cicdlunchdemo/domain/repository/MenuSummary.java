@@ -0,0 +1,39 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 메뉴 프로젝션
+ * 응답에 필요한 컬럼만 조회하며 영속성 컨텍스트에서 관리되지 않음
+ */
+@Getter
+public class MenuSummary {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Category category;
+    private final int spicyLevel;
+    private final int weight;
+    private final LocalDateTime createdAt;
+
+    public MenuSummary(Long id, String name, String description, Category category,
+                       int spicyLevel, int weight, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.spicyLevel = spicyLevel;
+        this.weight = weight;
+        this.createdAt = createdAt;
+    }
+
+    public static MenuSummary from(LunchMenu menu) {
+        return new MenuSummary(menu.getId(), menu.getName(), menu.getDescription(), menu.getCategory(),
+                menu.getSpicyLevel(), menu.getWeight(), menu.getCreatedAt());
+    }
+}
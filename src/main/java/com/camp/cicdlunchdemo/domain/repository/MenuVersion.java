@@ -0,0 +1,30 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴 한 건의 버전 정보 (조건부 GET 판단용, 엔티티를 로딩하지 않음)
+ */
+public interface MenuVersion {
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * DB를 거치지 않은 버전 정보 (write-behind 대기 중인 메뉴)
+     */
+    static MenuVersion of(Long version, LocalDateTime updatedAt) {
+        return new MenuVersion() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import com.camp.cicdlunchdemo.config.SlowQueryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 리포지토리 호출 감지
+ * 임계값(lunch.slow-query.threshold) 이상 걸린 호출을 WARN 로그로 남기고
+ * lunch.repository.slow.invocations{repository, method} 카운터를 증가시킴
+ * (SQL 문장 단위 느린 쿼리는 Hibernate가 org.hibernate.SQL_SLOW 로거로 기록)
+ */
+@Slf4j
+@Component
+public class SlowRepositoryInvocationListener implements RepositoryMethodInvocationListener {
+
+    public static final String SLOW_INVOCATIONS = "lunch.repository.slow.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+
+    public SlowRepositoryInvocationListener(MeterRegistry meterRegistry, SlowQueryProperties slowQueryProperties) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = slowQueryProperties.getThreshold().toNanos();
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long durationNanos = invocation.getDuration(TimeUnit.NANOSECONDS);
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+        String repository = invocation.getRepositoryInterface().getSimpleName();
+        String method = invocation.getMethod().getName();
+        log.warn("느린 리포지토리 호출 {}.{} {}ms", repository, method, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        Counter.builder(SLOW_INVOCATIONS)
+                .description("임계값 이상 걸린 리포지토리 호출 수")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+    }
+}
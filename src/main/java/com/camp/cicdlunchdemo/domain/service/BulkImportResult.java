@@ -0,0 +1,35 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과
+ * rowNumber는 요청 목록 기준 1부터 시작하는 행 번호
+ */
+@Getter
+public class BulkImportResult {
+
+    private final int requested;
+    private final int imported;
+    private final List<RowFailure> failures;
+
+    public BulkImportResult(int requested, int imported, List<RowFailure> failures) {
+        this.requested = requested;
+        this.imported = imported;
+        this.failures = List.copyOf(failures);
+    }
+
+    @Getter
+    public static class RowFailure {
+
+        private final int rowNumber;
+        private final String message;
+
+        public RowFailure(int rowNumber, String message) {
+            this.rowNumber = rowNumber;
+            this.message = message;
+        }
+    }
+}
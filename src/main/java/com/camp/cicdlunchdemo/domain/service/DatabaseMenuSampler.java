@@ -0,0 +1,247 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.IdRange;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuCacheEvictor;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.recommendation.WeightedReservoirSampler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DB 측 랜덤 샘플링
+ * ORDER BY RAND() 없이 인덱스 탐색으로 한 행만 조회
+ * - 균등: PK 범위에서 임의의 지점을 골라 그 이상인 첫 행 (ID 사이 빈 구간만큼 오차가 있음)
+ * - 가중치: 행마다 [weight_start, weight_start + weight) 구간을 두고 임의의 지점이 속한 행
+ *   삭제/가중치 변경으로 생긴 빈 구간은 재추첨으로 건너뛰고, 빈 구간이 많아지면 재계산(compaction)
+ *   새 구간은 weight_interval_counter 단일 행 카운터로 할당
+ * weight_start는 DB 샘플링 모드에서만 읽으므로 카탈로그 모드에서는 카운터를 잠그지 않고 0으로 둠
+ * (DB 샘플링 모드로 기동하면 그동안 쌓인 구간을 한 번 재계산)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DatabaseMenuSampler {
+
+    private static final int MAX_ATTEMPTS = 16;
+    // 재추첨으로 더 찾지 못했을 때 직접 조회하는 후보 수 상한
+    private static final int TOP_UP_LIMIT = 1_000;
+    private static final String LOCK_COUNTER_SQL =
+            "SELECT next_start FROM weight_interval_counter WHERE id = 1 FOR UPDATE";
+    private static final String UPDATE_COUNTER_SQL =
+            "UPDATE weight_interval_counter SET next_start = ? WHERE id = 1";
+
+    private final LunchMenuRepository lunchMenuRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LunchMenuCacheEvictor cacheEvictor;
+    private final RecommendationProperties recommendationProperties;
+
+    /**
+     * 균등 확률 샘플링 (제외 대상이면 재추첨)
+     */
+    public Optional<LunchMenu> sampleUniform(Set<Long> excludeIds) {
+        IdRange range = lunchMenuRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return Optional.empty();
+        }
+
+        Optional<LunchMenu> candidate = Optional.empty();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long point = ThreadLocalRandom.current().nextLong(range.getMinId(), range.getMaxId() + 1);
+            candidate = lunchMenuRepository.findFirstByIdGreaterThanEqualOrderByIdAsc(point);
+            if (candidate.isPresent() && !isExcluded(candidate.get(), excludeIds)) {
+                return candidate;
+            }
+        }
+        // 거의 모든 메뉴가 제외된 경우 마지막 후보를 그대로 사용
+        return candidate;
+    }
+
+    /**
+     * weight 비율 샘플링 (빈 구간이나 제외 대상이면 재추첨)
+     */
+    public Optional<LunchMenu> sampleWeighted(Set<Long> excludeIds) {
+        Optional<LunchMenu> last = lunchMenuRepository.findFirstByOrderByWeightStartDesc();
+        if (last.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long end = intervalEnd(last.get());
+        Optional<LunchMenu> excludedCandidate = Optional.empty();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && end > 0; attempt++) {
+            long point = ThreadLocalRandom.current().nextLong(end);
+            Optional<LunchMenu> candidate =
+                    lunchMenuRepository.findFirstByWeightStartLessThanEqualOrderByWeightStartDescIdDesc(point);
+
+            if (candidate.isEmpty() || point >= intervalEnd(candidate.get())) {
+                continue;
+            }
+            if (!isExcluded(candidate.get(), excludeIds)) {
+                return candidate;
+            }
+            excludedCandidate = candidate;
+        }
+        return excludedCandidate.isPresent() ? excludedCandidate : sampleUniform(excludeIds);
+    }
+
+    /**
+     * weight 비율로 서로 다른 메뉴를 최대 count개 비복원 추출 (뽑힌 순서)
+     * 한 행씩 재추첨으로 뽑으며 뽑힌 메뉴는 다음 추첨에서 제외
+     * 재추첨으로 더 찾지 못하면(남은 후보가 거의 없음) 뽑히지 않은 메뉴를 직접 조회해
+     * 카탈로그 모드(WeightedReservoirSampler)와 같은 규칙으로 채움 (제외 대상이 아닌 메뉴 먼저, 모자라면 제외 대상에서)
+     */
+    public List<LunchMenu> sampleWeighted(Set<Long> excludeIds, int count) {
+        List<LunchMenu> selected = new ArrayList<>(count);
+        long end = nextWeightStart();
+        if (end == 0) {
+            return selected;
+        }
+
+        Set<Long> excluded = excludeIds == null ? new HashSet<>() : new HashSet<>(excludeIds);
+        Set<Long> selectedIds = new HashSet<>();
+        while (selected.size() < count) {
+            Optional<LunchMenu> menu = drawWeighted(end, excluded);
+            if (menu.isEmpty()) {
+                break;
+            }
+            selected.add(menu.get());
+            selectedIds.add(menu.get().getId());
+            excluded.add(menu.get().getId());
+        }
+
+        if (selected.size() < count) {
+            List<LunchMenu> remaining = lunchMenuRepository.findByIdNotIn(selectedIds, Limit.of(TOP_UP_LIMIT));
+            selected.addAll(WeightedReservoirSampler.sample(remaining, excludeIds, count - selected.size()));
+        }
+        return selected;
+    }
+
+    /**
+     * weight 크기의 새 구간을 끝에 할당하고 시작점을 반환
+     * 카운터 행을 SELECT ... FOR UPDATE로 잠근 뒤 올리므로 동시에 등록/수정해도 구간이 겹치지 않음
+     * (잠금은 호출한 트랜잭션이 끝날 때까지 유지되어 구간 할당끼리는 직렬화됨)
+     * 카탈로그 모드에서는 잠그지 않고 0을 반환 (쓰기끼리 직렬화되지 않도록)
+     */
+    @Transactional
+    public long allocateWeightStart(long weight) {
+        if (!isDatabaseSampling()) {
+            return 0L;
+        }
+        long start = lockCounter();
+        jdbcTemplate.update(UPDATE_COUNTER_SQL, start + weight);
+        return start;
+    }
+
+    /**
+     * 현재 마지막 구간의 끝 (가중치 샘플링 범위, 새 구간은 allocateWeightStart로 할당)
+     */
+    public long nextWeightStart() {
+        return lunchMenuRepository.findFirstByOrderByWeightStartDesc()
+                .map(DatabaseMenuSampler::intervalEnd)
+                .orElse(0L);
+    }
+
+    /**
+     * DB 샘플링 모드로 기동하면 구간을 한 번 재계산
+     * 카탈로그 모드에서 등록/수정된 행은 weight_start가 0이라 구간이 겹쳐 있을 수 있음 (마이그레이션 직후도 동일)
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void compactOnStartup() {
+        if (isDatabaseSampling()) {
+            compactWeightIntervals();
+        }
+    }
+
+    /**
+     * 구간이 겹치거나 빈 구간이 절반을 넘으면 재계산
+     * weight_start는 DB 샘플링 모드에서만 읽으므로 카탈로그 모드에서는 전체 집계를 하지 않음
+     */
+    @Transactional
+    public void compactIfNeeded() {
+        if (!isDatabaseSampling()) {
+            return;
+        }
+        lunchMenuRepository.flush();
+
+        long totalWeight = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(weight), 0) FROM lunch_menu", Long.class);
+        long end = nextWeightStart();
+
+        if (end < totalWeight || end > totalWeight * 2) {
+            compactWeightIntervals();
+        }
+    }
+
+    /**
+     * ID 순서대로 구간을 빈틈없이 다시 배치 (JDBC 배치 업데이트)
+     * 카운터를 먼저 잠가 재배치 도중 새 구간이 할당되지 않게 하고, 끝나면 카운터를 마지막 구간의 끝으로 맞춤
+     */
+    @Transactional
+    public void compactWeightIntervals() {
+        lockCounter();
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT id, weight FROM lunch_menu ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getInt("weight")});
+
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        long cursor = 0;
+        for (long[] row : rows) {
+            batchArgs.add(new Object[]{cursor, row[0]});
+            cursor += row[1];
+        }
+        jdbcTemplate.batchUpdate("UPDATE lunch_menu SET weight_start = ? WHERE id = ?", batchArgs);
+        jdbcTemplate.update(UPDATE_COUNTER_SQL, cursor);
+        cacheEvictor.evictAll();
+    }
+
+    /**
+     * 카운터 행을 잠그고 다음 구간 시작점을 반환 (행은 V6 마이그레이션에서 만듦)
+     */
+    private long lockCounter() {
+        return jdbcTemplate.queryForObject(LOCK_COUNTER_SQL, Long.class);
+    }
+
+    private boolean isDatabaseSampling() {
+        return recommendationProperties.getSamplingMode() == SamplingMode.DATABASE;
+    }
+
+    /**
+     * [0, end)에서 재추첨해 제외 대상이 아닌 메뉴 하나를 뽑음 (MAX_ATTEMPTS번 안에 못 찾으면 빈 Optional)
+     */
+    private Optional<LunchMenu> drawWeighted(long end, Set<Long> excludeIds) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long point = ThreadLocalRandom.current().nextLong(end);
+            Optional<LunchMenu> candidate =
+                    lunchMenuRepository.findFirstByWeightStartLessThanEqualOrderByWeightStartDescIdDesc(point);
+
+            if (candidate.isPresent() && point < intervalEnd(candidate.get())
+                    && !isExcluded(candidate.get(), excludeIds)) {
+                return candidate;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static long intervalEnd(LunchMenu menu) {
+        return menu.getWeightStart() + menu.getWeight();
+    }
+
+    private static boolean isExcluded(LunchMenu menu, Set<Long> excludeIds) {
+        return excludeIds != null && excludeIds.contains(menu.getId());
+    }
+}
@@ -1,18 +1,39 @@
 package com.camp.cicdlunchdemo.domain.service;
 
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
 import com.camp.cicdlunchdemo.domain.exception.MenuConcurrentModificationException;
 import com.camp.cicdlunchdemo.domain.exception.MenuNotFoundException;
 import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import com.camp.cicdlunchdemo.domain.repository.MenuVersion;
+import com.camp.cicdlunchdemo.domain.service.catalog.CatalogFingerprint;
+import com.camp.cicdlunchdemo.domain.service.catalog.CategoryIndex;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuAttributeIndex;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuFilter;
+import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationMetrics;
 import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationStrategy;
+import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationStrategyRegistry;
 import com.camp.cicdlunchdemo.domain.service.recommendation.SimpleRandomStrategy;
 import com.camp.cicdlunchdemo.domain.service.recommendation.WeightedRandomStrategy;
+import com.camp.cicdlunchdemo.domain.service.recommendation.WeightedReservoirSampler;
+import com.camp.cicdlunchdemo.domain.service.writebehind.LostMenuWrite;
+import com.camp.cicdlunchdemo.domain.service.writebehind.MenuWriteBehind;
+import com.camp.cicdlunchdemo.domain.service.writebehind.PendingMenuMutation;
 import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -23,15 +44,42 @@ import java.util.Set;
 @Transactional(readOnly = true)
 public class LunchMenuService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_RECOMMEND_COUNT = 20;
+
+    // 전략 객체를 거치지 않는 추천 경로의 메트릭 태그
+    static final String DATABASE_UNIFORM = "DATABASE_UNIFORM";
+    static final String DATABASE_WEIGHTED = "DATABASE_WEIGHTED";
+    static final String WEIGHTED_RESERVOIR = "WEIGHTED_RESERVOIR";
+
     private final LunchMenuRepository lunchMenuRepository;
     private final WeightedRandomStrategy weightedRandomStrategy;
     private final SimpleRandomStrategy simpleRandomStrategy;
+    private final RecommendationStrategyRegistry strategyRegistry;
+    private final MenuCatalog menuCatalog;
+    private final DatabaseMenuSampler databaseMenuSampler;
+    private final RecommendationProperties recommendationProperties;
+    private final RecommendationMetrics recommendationMetrics;
+    private final MenuWriteBehind menuWriteBehind;
 
+    /**
+     * 전체 조회 (write-behind 대기 중인 변경이 있으면 덧씌움)
+     */
     public List<LunchMenu> findAll() {
-        return lunchMenuRepository.findAllByOrderByCreatedAtDesc();
+        List<LunchMenu> menus = lunchMenuRepository.findAllByOrderByCreatedAtDesc();
+        return menuWriteBehind.hasPending() ? menuWriteBehind.applyTo(menus) : menus;
     }
 
+    /**
+     * 카테고리별 조회
+     * write-behind 대기 중인 변경이 있으면 카테고리가 바뀐 메뉴도 반영되도록 전체 목록에서 거름
+     */
     public List<LunchMenu> findByCategory(Category category) {
+        if (menuWriteBehind.hasPending()) {
+            return findAll().stream()
+                    .filter(menu -> menu.getCategory() == category)
+                    .toList();
+        }
         return lunchMenuRepository.findByCategoryOrderByCreatedAtDesc(category);
     }
 
@@ -42,66 +90,291 @@ public class LunchMenuService {
         return category != null ? findByCategory(category) : findAll();
     }
 
+    /**
+     * 목록 화면/API용 요약 조회 (카테고리가 null이면 전체 조회)
+     * 카탈로그 모드에서는 스냅샷의 카테고리 인덱스에 미리 만들어 둔 목록을 그대로 반환하고,
+     * DB 샘플링 모드에서는 프로젝션 쿼리로 조회
+     */
+    public List<MenuSummary> findSummariesByOptionalCategory(Category category) {
+        if (isDatabaseSampling()) {
+            return category != null
+                    ? lunchMenuRepository.findSummariesByCategory(category)
+                    : lunchMenuRepository.findAllSummaries();
+        }
+        CategoryIndex index = CategoryIndex.of(menuCatalog.getSnapshot());
+        return category != null ? index.summariesOf(category) : index.recentSummaries();
+    }
+
+    /**
+     * 키셋 페이지네이션 조회 (created_at DESC, id DESC)
+     * DB를 직접 읽으므로 write-behind 대기 중인 변경은 반영 전까지 보이지 않음
+     * @param afterCreatedAt 이전 페이지 마지막 항목의 생성 시각 (첫 페이지면 null)
+     * @param afterId 이전 페이지 마지막 항목의 ID (첫 페이지면 null)
+     * @throws IllegalArgumentException limit이 1 ~ MAX_PAGE_SIZE 범위를 벗어난 경우
+     */
+    public Slice<MenuSummary> findSummarySlice(Category category, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Pageable pageable = PageRequest.ofSize(limit);
+        boolean firstPage = afterCreatedAt == null || afterId == null;
+
+        if (category == null) {
+            return firstPage
+                    ? lunchMenuRepository.findSummarySlice(pageable)
+                    : lunchMenuRepository.findSummarySliceAfter(afterCreatedAt, afterId, pageable);
+        }
+        return firstPage
+                ? lunchMenuRepository.findSummarySliceByCategory(category, pageable)
+                : lunchMenuRepository.findSummarySliceByCategoryAfter(category, afterCreatedAt, afterId, pageable);
+    }
+
+    /**
+     * 단건 조회 (write-behind 대기 중인 메뉴면 DB 대신 대기 중인 변경을 반환)
+     */
     public Optional<LunchMenu> findById(Long id) {
-        return lunchMenuRepository.findById(id);
+        return menuWriteBehind.findPending(id)
+                .map(PendingMenuMutation::pendingMenu)
+                .orElseGet(() -> lunchMenuRepository.findById(id));
+    }
+
+    /**
+     * write-behind에서 성공으로 응답했지만 버려진 변경이 있으면 한 번 반환 (없거나 이미 알렸으면 empty)
+     */
+    public Optional<LostMenuWrite> takeLostWrite(Long id) {
+        return menuWriteBehind.takeLost(id);
+    }
+
+    /**
+     * 조건부 GET용 메뉴 버전 조회 (엔티티를 로딩하지 않음)
+     */
+    public Optional<MenuVersion> findVersionById(Long id) {
+        return menuWriteBehind.findPending(id)
+                .map(mutation -> mutation.pendingMenu()
+                        .map(menu -> MenuVersion.of(menu.getVersion(), menu.getUpdatedAt())))
+                .orElseGet(() -> lunchMenuRepository.findVersionById(id));
+    }
+
+    /**
+     * 목록 조건부 GET용 지문
+     * 카탈로그 모드에서는 스냅샷에서 한 번 계산한 값을 재사용하고, DB 샘플링 모드에서는 집계 쿼리 한 번으로 계산
+     */
+    public CatalogFingerprint getCatalogFingerprint() {
+        return isDatabaseSampling()
+                ? CatalogFingerprint.from(lunchMenuRepository.findListVersion())
+                : CatalogFingerprint.of(menuCatalog.getSnapshot());
     }
 
     public LunchMenu getById(Long id) {
-        return lunchMenuRepository.findById(id)
+        return findById(id)
                 .orElseThrow(() -> new MenuNotFoundException(id));
     }
 
     @Transactional
     public LunchMenu save(LunchMenuForm form) {
-        return lunchMenuRepository.save(form.toEntity());
+        LunchMenu menu = form.toEntity();
+        menu.assignWeightStart(databaseMenuSampler.allocateWeightStart(menu.getWeight()));
+        LunchMenu savedMenu = lunchMenuRepository.save(menu);
+        menuCatalog.invalidate();
+        return savedMenu;
     }
 
+    /**
+     * 메뉴 수정
+     * write-behind 모드에서는 대기열에 넣고 변경이 반영된 사본을 바로 반환 (대기열이 가득 차면 동기로 반영)
+     */
     @Transactional
     public LunchMenu update(Long id, LunchMenuForm form) {
-        LunchMenu menu = getById(id);
+        if (menuWriteBehind.isEnabled()) {
+            Optional<LunchMenu> queued = menuWriteBehind.enqueueUpdate(id, form, () -> currentMenu(id));
+            if (queued.isPresent()) {
+                return queued.get();
+            }
+        }
+
+        // 낙관적 락: 엔티티를 읽지 않고 WHERE version = ? 조건부 UPDATE로 확인과 수정을 함께 처리
+        Long version = form.getVersion() != null ? form.getVersion() : currentVersion(id);
+        LocalDateTime updatedAt = LocalDateTime.now();
 
-        // 낙관적 락: version 불일치 시 예외 발생
-        if (form.getVersion() != null && !form.getVersion().equals(menu.getVersion())) {
-            throw new MenuConcurrentModificationException();
+        // 대부분의 수정은 가중치를 바꾸지 않으므로 가중치까지 같을 때만 반영되는 한 문장으로 끝냄
+        int updated = lunchMenuRepository.updateIfVersionKeepingWeight(id, version,
+                form.getName(), form.getDescription(), form.getCategory(), form.getSpicyLevel(),
+                form.getWeight(), updatedAt);
+        if (updated == 0) {
+            // 가중치가 바뀌었을 수 있으므로 끝에 새 구간을 붙여 다시 시도 (가중치가 같으면 DB가 기존 구간을 유지)
+            long nextWeightStart = databaseMenuSampler.allocateWeightStart(form.getWeight());
+            updated = lunchMenuRepository.updateIfVersionWithWeight(id, version,
+                    form.getName(), form.getDescription(), form.getCategory(), form.getSpicyLevel(),
+                    form.getWeight(), nextWeightStart, updatedAt);
+            if (updated == 0) {
+                throw lunchMenuRepository.existsById(id)
+                        ? new MenuConcurrentModificationException()
+                        : new MenuNotFoundException(id);
+            }
+            databaseMenuSampler.compactIfNeeded();
         }
+        menuCatalog.invalidate();
 
-        menu.update(
-                form.getName(),
-                form.getDescription(),
-                form.getCategory(),
-                form.getSpicyLevel(),
-                form.getWeight()
-        );
+        // 반환할 메뉴는 읽지 않고 폼의 값과 기록한 버전으로 구성 (응답에 쓰지 않는 구간 시작점은 채우지 않음)
+        LunchMenu menu = form.toEntity();
+        menu.markModified(id, version + 1, updatedAt);
         return menu;
     }
 
+    /**
+     * 메뉴 삭제
+     * write-behind 모드에서는 대기열에 넣고 바로 반환 (대기열이 가득 차면 동기로 반영)
+     */
     @Transactional
     public void delete(Long id) {
-        if (!lunchMenuRepository.existsById(id)) {
+        if (menuWriteBehind.isEnabled() && menuWriteBehind.enqueueDelete(id, () -> currentMenu(id))) {
+            return;
+        }
+        if (lunchMenuRepository.deleteMenuById(id) == 0) {
             throw new MenuNotFoundException(id);
         }
-        lunchMenuRepository.deleteById(id);
+        databaseMenuSampler.compactIfNeeded();
+        menuCatalog.invalidate();
     }
 
     /**
      * 단순 랜덤 추천
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<LunchMenu> recommendRandom() {
+        if (isDatabaseSampling()) {
+            return recommendationMetrics.recordOne(DATABASE_UNIFORM,
+                    () -> databaseMenuSampler.sampleUniform(Collections.emptySet()));
+        }
         return recommend(simpleRandomStrategy, Collections.emptySet());
     }
 
     /**
      * 가중치 기반 + 중복 제외 랜덤 추천
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<LunchMenu> recommendWeightedRandomExcluding(Set<Long> excludeIds) {
+        if (isDatabaseSampling()) {
+            return recommendationMetrics.recordOne(DATABASE_WEIGHTED,
+                    () -> databaseMenuSampler.sampleWeighted(excludeIds));
+        }
         return recommend(weightedRandomStrategy, excludeIds);
     }
 
+    /**
+     * 가중치 기반 + 중복 제외로 서로 다른 메뉴 count개 추천
+     * 카탈로그를 한 번만 순회하는 가중치 비복원 추출을 사용하며, 제외 대상이 아닌 메뉴가 부족하면 제외 대상에서 채움
+     * @throws IllegalArgumentException count가 1 ~ MAX_RECOMMEND_COUNT 범위를 벗어난 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LunchMenu> recommendWeightedRandomExcluding(Set<Long> excludeIds, int count) {
+        if (count < 1 || count > MAX_RECOMMEND_COUNT) {
+            throw new IllegalArgumentException("count는 1~" + MAX_RECOMMEND_COUNT + " 사이여야 합니다.");
+        }
+        if (isDatabaseSampling()) {
+            return recommendationMetrics.recordMany(DATABASE_WEIGHTED,
+                    () -> databaseMenuSampler.sampleWeighted(excludeIds, count));
+        }
+        return recommendationMetrics.recordMany(WEIGHTED_RESERVOIR,
+                () -> WeightedReservoirSampler.sample(menuCatalog.getSnapshot().getMenus(), excludeIds, count));
+    }
+
+    /**
+     * 필터 조건을 만족하는 메뉴 중 서로 다른 메뉴 count개 추천
+     * 조건 지정 시에는 샘플링 모드와 관계없이 카탈로그를 사용 (허용 카테고리로 범위를 좁힌 뒤 속성 비트셋으로 후보 계산)
+     * @throws IllegalArgumentException count가 1 ~ MAX_RECOMMEND_COUNT 범위를 벗어난 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LunchMenu> recommendWeightedRandomExcluding(MenuFilter filter, Set<Long> excludeIds, int count) {
+        if (filter == null || filter.isUnrestricted()) {
+            return recommendWeightedRandomExcluding(excludeIds, count);
+        }
+        if (count < 1 || count > MAX_RECOMMEND_COUNT) {
+            throw new IllegalArgumentException("count는 1~" + MAX_RECOMMEND_COUNT + " 사이여야 합니다.");
+        }
+        return recommendationMetrics.recordMany(WEIGHTED_RESERVOIR, () -> {
+            MenuAttributeIndex index = MenuAttributeIndex.of(scopedSnapshot(filter));
+            List<LunchMenu> candidates = index.menusOf(index.candidates(filter.withoutCategories()));
+            return WeightedReservoirSampler.sample(candidates, excludeIds, count);
+        });
+    }
+
+    /**
+     * 필터 조건을 만족하는 메뉴 중 전략 + 중복 제외 랜덤 추천
+     * @param strategyName 전략 이름 (null이면 가중치 랜덤)
+     * @throws IllegalArgumentException 등록되지 않은 전략 이름인 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<LunchMenu> recommendExcluding(String strategyName, MenuFilter filter, Set<Long> excludeIds) {
+        if (filter == null || filter.isUnrestricted()) {
+            return strategyName != null
+                    ? recommendExcluding(strategyName, excludeIds)
+                    : recommendWeightedRandomExcluding(excludeIds);
+        }
+        RecommendationStrategy strategy = strategyName != null ? strategyRegistry.get(strategyName) : weightedRandomStrategy;
+        return recommendationMetrics.recordOne(strategy.getStrategyName(), () -> {
+            MenuSnapshot snapshot = scopedSnapshot(filter);
+            MenuFilter remaining = filter.withoutCategories();
+            // 카테고리만 지정한 경우 하위 스냅샷에 파생된 전략 자료구조(누적합, alias 테이블)를 그대로 사용
+            return remaining.isUnrestricted()
+                    ? strategy.recommend(snapshot, excludeIds)
+                    : strategy.recommend(snapshot, remaining, excludeIds);
+        });
+    }
+
+    /**
+     * 이름으로 지정한 전략 + 중복 제외 랜덤 추천
+     * @throws IllegalArgumentException 등록되지 않은 전략 이름인 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<LunchMenu> recommendExcluding(String strategyName, Set<Long> excludeIds) {
+        return recommend(strategyRegistry.get(strategyName), excludeIds);
+    }
+
     /**
      * 전략 패턴을 사용한 추천
+     * 카탈로그 스냅샷에서 선택하므로 변경이 없는 동안에는 DB를 조회하지 않음
+     * (SUPPORTS: 불필요한 트랜잭션/커넥션 획득을 피함)
      */
     private Optional<LunchMenu> recommend(RecommendationStrategy strategy, Set<Long> excludeIds) {
-        List<LunchMenu> menus = lunchMenuRepository.findAll();
-        return strategy.recommend(menus, excludeIds);
+        return recommendationMetrics.recordOne(strategy.getStrategyName(),
+                () -> strategy.recommend(menuCatalog.getSnapshot(), excludeIds));
+    }
+
+    /**
+     * 허용 카테고리가 지정되어 있으면 카테고리 인덱스의 하위 스냅샷, 아니면 전체 스냅샷
+     */
+    private MenuSnapshot scopedSnapshot(MenuFilter filter) {
+        MenuSnapshot snapshot = menuCatalog.getSnapshot();
+        return filter.getCategories().isEmpty()
+                ? snapshot
+                : CategoryIndex.of(snapshot).snapshotOf(filter.getCategories());
+    }
+
+    /**
+     * 폼에 버전이 없을 때 기준으로 삼을 현재 버전 (엔티티 대신 버전만 조회)
+     * @throws MenuNotFoundException 없는 메뉴인 경우
+     */
+    private Long currentVersion(Long id) {
+        return lunchMenuRepository.findVersionById(id)
+                .map(MenuVersion::getVersion)
+                .orElseThrow(() -> new MenuNotFoundException(id));
+    }
+
+    /**
+     * write-behind 대기열에 넣을 때 기준이 되는 현재 메뉴 (카탈로그 모드에서는 스냅샷, DB 샘플링 모드에서는 DB)
+     */
+    private LunchMenu currentMenu(Long id) {
+        if (isDatabaseSampling()) {
+            return lunchMenuRepository.findById(id)
+                    .orElseThrow(() -> new MenuNotFoundException(id));
+        }
+        return menuCatalog.getSnapshot().findById(id)
+                .orElseThrow(() -> new MenuNotFoundException(id));
+    }
+
+    private boolean isDatabaseSampling() {
+        return recommendationProperties.getSamplingMode() == SamplingMode.DATABASE;
     }
 }
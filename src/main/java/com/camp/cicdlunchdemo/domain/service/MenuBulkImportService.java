@@ -0,0 +1,128 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.config.BulkImportProperties;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuCacheEvictor;
+import com.camp.cicdlunchdemo.domain.service.BulkImportResult.RowFailure;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 일괄 등록 서비스
+ * IDENTITY 키 때문에 Hibernate 배치 INSERT가 비활성화되므로 JDBC 배치로 직접 저장
+ * - 행마다 Bean Validation을 수행하고 실패한 행(입력 단계에서 형식 오류가 난 행 포함)은 건너뛰고 결과에 기록
+ * - 검증을 통과한 행은 chunkSize 단위로 나누어 청크마다 별도 트랜잭션으로 커밋
+ * - 청크 저장이 실패하면 해당 청크만 롤백되고 그 청크의 모든 행이 실패로 기록됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuBulkImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO lunch_menu "
+            + "(name, description, category, spicy_level, weight, weight_start, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final DatabaseMenuSampler databaseMenuSampler;
+    private final MenuCatalog menuCatalog;
+    private final LunchMenuCacheEvictor cacheEvictor;
+    private final BulkImportProperties bulkImportProperties;
+
+    public BulkImportResult importMenus(List<LunchMenuForm> forms) {
+        return importMenus(forms, Map.of());
+    }
+
+    /**
+     * @param rowErrors 입력 단계(CSV 파싱 등)에서 이미 실패한 행의 번호(forms 기준 1부터)와 사유, 검증 없이 실패로 기록됨
+     */
+    public BulkImportResult importMenus(List<LunchMenuForm> forms, Map<Integer, String> rowErrors) {
+        List<RowFailure> failures = new ArrayList<>();
+        List<IndexedForm> validRows = new ArrayList<>(forms.size());
+
+        for (int i = 0; i < forms.size(); i++) {
+            LunchMenuForm form = forms.get(i);
+            String violation = rowErrors.get(i + 1);
+            if (violation == null) {
+                violation = form != null ? validate(form) : "빈 행입니다.";
+            }
+            if (violation != null) {
+                failures.add(new RowFailure(i + 1, violation));
+            } else {
+                validRows.add(new IndexedForm(i + 1, form));
+            }
+        }
+
+        int chunkSize = Math.max(1, bulkImportProperties.getChunkSize());
+        int imported = 0;
+        for (int from = 0; from < validRows.size(); from += chunkSize) {
+            List<IndexedForm> chunk = validRows.subList(from, Math.min(from + chunkSize, validRows.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+                imported += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("메뉴 일괄 등록 청크 실패 (rows {}~{})",
+                        chunk.get(0).rowNumber(), chunk.get(chunk.size() - 1).rowNumber(), e);
+                String message = "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage();
+                chunk.forEach(row -> failures.add(new RowFailure(row.rowNumber(), message)));
+            }
+        }
+
+        if (imported > 0) {
+            databaseMenuSampler.compactIfNeeded();
+            cacheEvictor.evictAll();
+            menuCatalog.invalidate();
+        }
+
+        failures.sort(Comparator.comparingInt(RowFailure::getRowNumber));
+        return new BulkImportResult(forms.size(), imported, failures);
+    }
+
+    private void insertChunk(List<IndexedForm> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        // 청크 전체 크기만큼 한 번에 할당 (다른 저장과 구간이 겹치지 않음)
+        long weightStart = databaseMenuSampler.allocateWeightStart(
+                chunk.stream().mapToLong(row -> row.form().getWeight()).sum());
+
+        List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+        for (IndexedForm row : chunk) {
+            LunchMenuForm form = row.form();
+            batchArgs.add(new Object[]{
+                    form.getName(), form.getDescription(), form.getCategory().name(),
+                    form.getSpicyLevel(), form.getWeight(), weightStart, now, now});
+            weightStart += form.getWeight();
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    private String validate(LunchMenuForm form) {
+        Set<ConstraintViolation<LunchMenuForm>> violations = validator.validate(form);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private record IndexedForm(int rowNumber, LunchMenuForm form) {
+    }
+}
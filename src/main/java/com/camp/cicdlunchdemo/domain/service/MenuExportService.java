@@ -0,0 +1,47 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 전체 카탈로그 내보내기 서비스
+ * DB 커서로 한 행씩 읽어 넘기고 청크마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+ * DB에 커밋된 상태를 내보내므로 write-behind 대기 중인 변경은 반영 전까지 포함되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuExportService {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private final LunchMenuRepository lunchMenuRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * ID 순서대로 모든 메뉴를 consumer에 전달
+     * consumer는 전달받은 엔티티를 보관하지 않아야 함 (청크 단위로 detach됨)
+     * @return 내보낸 메뉴 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Consumer<LunchMenu> consumer) {
+        long count = 0;
+        try (Stream<LunchMenu> menus = lunchMenuRepository.streamAllByOrderByIdAsc()) {
+            Iterator<LunchMenu> iterator = menus.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,85 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.History.Store;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * 논블로킹 추천 서비스
+ * 구독한 스레드(서블릿 요청 스레드)에서는 계산하지 않고 스케줄러로 넘김
+ * - 카탈로그 스냅샷만 읽고 기록 저장소가 메모리이면 parallel 스케줄러로 넘긴 뒤, 계산 직전 그 스레드에서
+ *   스냅샷이 최신인지 다시 확인하고 재구성(DB 조회)이 필요하면 boundedElastic 스케줄러로 한 번 더 넘김
+ * - DB 샘플링/JDBC 기록 저장소처럼 블로킹 I/O가 필요하면 처음부터 boundedElastic 스케줄러에서 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveRecommendationService {
+
+    private final LunchMenuService lunchMenuService;
+    private final RecommendationHistoryService historyService;
+    private final MenuCatalog menuCatalog;
+    private final RecommendationProperties recommendationProperties;
+
+    /**
+     * 최근 기록을 제외하고 추천한 뒤 기록에 추가
+     * @param strategyName 전략 이름 (null이면 가중치 랜덤)
+     * @return 추천 메뉴 (추천할 메뉴가 없으면 빈 Mono, 등록되지 않은 전략이면 IllegalArgumentException 에러)
+     */
+    public Mono<LunchMenu> recommend(String clientId, String strategyName) {
+        return recommend(clientId, strategyName, null);
+    }
+
+    /**
+     * 필터 조건을 만족하는 메뉴 중 최근 기록을 제외하고 추천한 뒤 기록에 추가
+     * @param filter 후보 조건 (null이면 제한 없음, 조건 지정 시에는 샘플링 모드와 관계없이 카탈로그를 사용)
+     */
+    public Mono<LunchMenu> recommend(String clientId, String strategyName, MenuFilter filter) {
+        Callable<LunchMenu> task = () -> recommendBlocking(clientId, strategyName, filter);
+        return Mono.defer(() -> {
+            if (!readsCatalogOnly(filter)) {
+                return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+            }
+            // parallel 스레드에서 계산 직전에 확인하므로 스냅샷 재구성은 boundedElastic에서만 일어남
+            // (확인과 계산 사이에 무효화되는 아주 짧은 경우만 예외)
+            return Mono.defer(() -> menuCatalog.isCurrent()
+                            ? Mono.fromCallable(task)
+                            : Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic()))
+                    .subscribeOn(Schedulers.parallel());
+        });
+    }
+
+    private LunchMenu recommendBlocking(String clientId, String strategyName, MenuFilter filter) {
+        Set<Long> recentMenuIds = historyService.getRecentMenuIds(clientId);
+        Optional<LunchMenu> menu;
+        if (filter != null && !filter.isUnrestricted()) {
+            menu = lunchMenuService.recommendExcluding(strategyName, filter, recentMenuIds);
+        } else {
+            menu = strategyName != null
+                    ? lunchMenuService.recommendExcluding(strategyName, recentMenuIds)
+                    : lunchMenuService.recommendWeightedRandomExcluding(recentMenuIds);
+        }
+
+        menu.ifPresent(selected -> historyService.addToHistory(clientId, selected.getId()));
+        return menu.orElse(null);
+    }
+
+    /**
+     * 카탈로그 스냅샷 외에 블로킹 I/O가 없는 요청인지 (조건 지정 추천은 샘플링 모드와 관계없이 카탈로그를 사용)
+     */
+    private boolean readsCatalogOnly(MenuFilter filter) {
+        boolean catalogSampling = recommendationProperties.getSamplingMode() == SamplingMode.CATALOG
+                || (filter != null && !filter.isUnrestricted());
+        return catalogSampling && recommendationProperties.getHistory().getStore() == Store.MEMORY;
+    }
+}
@@ -1,65 +1,50 @@
 package com.camp.cicdlunchdemo.domain.service;
 
-import jakarta.servlet.http.HttpSession;
+import com.camp.cicdlunchdemo.domain.service.history.RecommendationHistoryStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * 추천 기록 관리 서비스
- * 세션 기반으로 최근 추천된 메뉴 ID를 관리 (슬라이딩 윈도우 방식)
+ * 클라이언트 ID 기준으로 최근 추천된 메뉴 ID를 관리 (슬라이딩 윈도우 방식)
+ * 실제 저장 위치는 RecommendationHistoryStore 구현체가 결정 (lunch.recommendation.history.store)
  */
 @Service
+@RequiredArgsConstructor
 public class RecommendationHistoryService {
 
-    private static final String SESSION_KEY = "recentRecommendedMenus";
-    private static final int MAX_HISTORY_SIZE = 5;
+    private final RecommendationHistoryStore historyStore;
 
     /**
      * 최근 추천된 메뉴 ID 목록 조회
      * @return 최근 추천 메뉴 ID Set (없으면 빈 Set)
      */
-    @SuppressWarnings("unchecked")
-    public Set<Long> getRecentMenuIds(HttpSession session) {
-        Set<Long> history = (Set<Long>) session.getAttribute(SESSION_KEY);
-        return history != null ? history : Set.of();
+    public Set<Long> getRecentMenuIds(String clientId) {
+        return historyStore.findRecentMenuIds(clientId);
     }
 
     /**
      * 추천 기록에 메뉴 ID 추가
-     * MAX_HISTORY_SIZE 초과 시 가장 오래된 항목 제거
+     * 최대 개수 초과 시 가장 오래된 항목 제거
      */
-    public void addToHistory(HttpSession session, Long menuId) {
-        Set<Long> history = getOrCreateHistory(session);
-
-        // 이미 있으면 제거 후 다시 추가 (순서 갱신)
-        history.remove(menuId);
-        history.add(menuId);
-
-        // 크기 초과 시 가장 오래된 항목 제거
-        while (history.size() > MAX_HISTORY_SIZE) {
-            Long oldest = history.iterator().next();
-            history.remove(oldest);
-        }
-
-        session.setAttribute(SESSION_KEY, history);
+    public void addToHistory(String clientId, Long menuId) {
+        historyStore.append(clientId, menuId);
     }
 
     /**
-     * 추천 기록 초기화
+     * 배치 추천 결과를 한 번에 기록 (목록 순서대로 추가)
      */
-    public void clearHistory(HttpSession session) {
-        session.removeAttribute(SESSION_KEY);
+    public void addAllToHistory(String clientId, List<Long> menuIds) {
+        historyStore.appendAll(clientId, menuIds);
     }
 
-    @SuppressWarnings("unchecked")
-    private Set<Long> getOrCreateHistory(HttpSession session) {
-        Set<Long> history = (Set<Long>) session.getAttribute(SESSION_KEY);
-        if (history == null) {
-            history = new LinkedHashSet<>();
-            session.setAttribute(SESSION_KEY, history);
-        }
-        return history;
+    /**
+     * 추천 기록 초기화
+     */
+    public void clearHistory(String clientId) {
+        historyStore.clear(clientId);
     }
 }
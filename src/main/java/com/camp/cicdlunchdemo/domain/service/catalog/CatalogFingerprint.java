@@ -0,0 +1,62 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.MenuListVersion;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 메뉴 목록 전체의 지문 (목록 조건부 GET의 ETag)
+ * (건수, 최대 ID, 버전 합)은 생성(최대 ID 증가), 삭제(건수 감소), 수정(버전 합 증가) 중 하나라도 일어나면 달라짐
+ * 카탈로그 스냅샷에서 계산한 값과 DB 집계 쿼리로 계산한 값이 같으므로 샘플링 모드와 관계없이 같은 ETag를 사용
+ * 삭제는 남은 행의 수정 시각에 드러나지 않아 노드 간에 일치하는 Last-Modified를 만들 수 없으므로 ETag만 제공
+ */
+@Getter
+@EqualsAndHashCode
+public final class CatalogFingerprint {
+
+    private final long count;
+    private final long maxId;
+    private final long versionSum;
+
+    private CatalogFingerprint(long count, long maxId, long versionSum) {
+        this.count = count;
+        this.maxId = maxId;
+        this.versionSum = versionSum;
+    }
+
+    /**
+     * 스냅샷 버전당 한 번만 계산
+     */
+    public static CatalogFingerprint of(MenuSnapshot snapshot) {
+        return snapshot.derive(CatalogFingerprint.class, CatalogFingerprint::compute);
+    }
+
+    public static CatalogFingerprint from(MenuListVersion listVersion) {
+        return new CatalogFingerprint(
+                valueOf(listVersion.getCount()),
+                valueOf(listVersion.getMaxId()),
+                valueOf(listVersion.getVersionSum()));
+    }
+
+    /**
+     * 따옴표를 제외한 ETag 값
+     */
+    public String toETag() {
+        return count + "-" + maxId + "-" + versionSum;
+    }
+
+    private static CatalogFingerprint compute(MenuSnapshot snapshot) {
+        long maxId = 0;
+        long versionSum = 0;
+        for (LunchMenu menu : snapshot.getMenus()) {
+            maxId = Math.max(maxId, valueOf(menu.getId()));
+            versionSum += valueOf(menu.getVersion());
+        }
+        return new CatalogFingerprint(snapshot.size(), maxId, versionSum);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,115 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 스냅샷의 카테고리별 인덱스
+ * 카테고리마다 최신순(created_at DESC, id DESC)으로 정렬된 하위 스냅샷과 목록 응답용 요약을 미리 만들어 둠
+ * 하위 스냅샷도 MenuSnapshot이므로 전략의 가중치 자료구조(누적합, alias 테이블)가 카테고리별로 한 번씩만 생성됨
+ * 여러 카테고리 조합은 처음 요청될 때 합쳐서 캐시 (카테고리가 6개이므로 조합은 최대 63개)
+ */
+public final class CategoryIndex {
+
+    private static final Comparator<LunchMenu> RECENT_FIRST = Comparator
+            .comparing(LunchMenu::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(LunchMenu::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final long version;
+    private final List<MenuSummary> recentSummaries;
+    private final Map<Category, MenuSnapshot> snapshots;
+    private final Map<Category, List<MenuSummary>> summaries;
+    private final ConcurrentMap<Set<Category>, MenuSnapshot> combinations = new ConcurrentHashMap<>();
+
+    private CategoryIndex(MenuSnapshot snapshot) {
+        this.version = snapshot.getVersion();
+
+        List<LunchMenu> recent = new ArrayList<>(snapshot.getMenus());
+        recent.sort(RECENT_FIRST);
+        this.recentSummaries = toSummaries(recent);
+
+        Map<Category, List<LunchMenu>> grouped = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            grouped.put(category, new ArrayList<>());
+        }
+        for (LunchMenu menu : recent) {
+            grouped.get(menu.getCategory()).add(menu);
+        }
+
+        this.snapshots = new EnumMap<>(Category.class);
+        this.summaries = new EnumMap<>(Category.class);
+        grouped.forEach((category, menus) -> {
+            snapshots.put(category, MenuSnapshot.of(version, menus));
+            summaries.put(category, toSummaries(menus));
+        });
+    }
+
+    /**
+     * 스냅샷 버전당 한 번만 생성되는 인덱스
+     */
+    public static CategoryIndex of(MenuSnapshot snapshot) {
+        return snapshot.derive(CategoryIndex.class, CategoryIndex::new);
+    }
+
+    /**
+     * 전체 메뉴 요약 (최신순)
+     */
+    public List<MenuSummary> recentSummaries() {
+        return recentSummaries;
+    }
+
+    /**
+     * 카테고리 메뉴 요약 (최신순)
+     */
+    public List<MenuSummary> summariesOf(Category category) {
+        return summaries.get(category);
+    }
+
+    public MenuSnapshot snapshotOf(Category category) {
+        return snapshots.get(category);
+    }
+
+    /**
+     * 여러 카테고리의 메뉴를 합친 하위 스냅샷
+     */
+    public MenuSnapshot snapshotOf(Set<Category> categories) {
+        if (categories.size() == 1) {
+            return snapshotOf(categories.iterator().next());
+        }
+        Set<Category> key = Collections.unmodifiableSet(EnumSet.copyOf(categories));
+        MenuSnapshot combined = combinations.get(key);
+        if (combined == null) {
+            combined = combine(key);
+            MenuSnapshot existing = combinations.putIfAbsent(key, combined);
+            if (existing != null) {
+                combined = existing;
+            }
+        }
+        return combined;
+    }
+
+    private MenuSnapshot combine(Set<Category> categories) {
+        List<LunchMenu> menus = new ArrayList<>();
+        for (Category category : categories) {
+            menus.addAll(snapshots.get(category).getMenus());
+        }
+        menus.sort(RECENT_FIRST);
+        return MenuSnapshot.of(version, menus);
+    }
+
+    private static List<MenuSummary> toSummaries(List<LunchMenu> menus) {
+        return menus.stream().map(MenuSummary::from).toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메뉴 카탈로그 인메모리 캐시
+ * 추천 경로는 DB 대신 이 스냅샷을 읽고, 메뉴 변경(save/update/delete)이 커밋되면 다음 조회 시 재구성됨
+ * 다른 노드의 변경은 MenuCatalogSynchronizer가 주기적으로 감지해 무효화함
+ */
+@Component
+public class MenuCatalog {
+
+    private final LunchMenuRepository lunchMenuRepository;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter hitCounter;
+    private final Counter rebuildCounter;
+
+    private volatile MenuSnapshot snapshot;
+    private volatile MenuOverlay overlay = MenuOverlay.NONE;
+
+    public MenuCatalog(LunchMenuRepository lunchMenuRepository, MeterRegistry meterRegistry) {
+        this.lunchMenuRepository = lunchMenuRepository;
+        this.hitCounter = Counter.builder("lunch.catalog.hits")
+                .description("스냅샷 재사용 횟수")
+                .register(meterRegistry);
+        this.rebuildCounter = Counter.builder("lunch.catalog.rebuilds")
+                .description("스냅샷 재구성 횟수")
+                .register(meterRegistry);
+        Gauge.builder("lunch.catalog.version", version, AtomicLong::get)
+                .description("현재 카탈로그 버전")
+                .register(meterRegistry);
+        // 재구성을 유발하지 않도록 마지막으로 만들어진 스냅샷의 크기를 읽음
+        Gauge.builder("lunch.catalog.size", this, catalog -> {
+                    MenuSnapshot current = catalog.snapshot;
+                    return current != null ? current.size() : 0;
+                })
+                .description("현재 카탈로그 스냅샷의 메뉴 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 버전의 스냅샷 반환 (무효화된 경우 DB에서 한 번만 재구성)
+     */
+    public MenuSnapshot getSnapshot() {
+        MenuSnapshot current = snapshot;
+        if (isFresh(current)) {
+            hitCounter.increment();
+            return current;
+        }
+        return rebuild();
+    }
+
+    /**
+     * 재구성 없이 바로 스냅샷을 반환할 수 있는지 여부 (DB 조회가 필요 없으면 true)
+     */
+    public boolean isCurrent() {
+        return isFresh(snapshot);
+    }
+
+    /**
+     * 카탈로그 무효화
+     * 트랜잭션 안에서 호출되면 완료(커밋/롤백) 시점에 한 번 더 무효화하여
+     * 커밋 전에 다른 스레드가 읽어간 스냅샷이 재사용되지 않도록 함
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 변경을 스냅샷에 덧씌우도록 등록 (재구성할 때마다 적용)
+     */
+    public void registerOverlay(MenuOverlay overlay) {
+        this.overlay = overlay;
+    }
+
+    /**
+     * DB를 다시 읽지 않고 현재 스냅샷에 오버레이만 다시 적용한 새 버전을 만듦
+     * 스냅샷이 이미 무효화되었으면 다음 조회 시 DB에서 재구성하면서 오버레이가 적용되므로 아무것도 하지 않음
+     */
+    public void refreshOverlay() {
+        rebuildLock.lock();
+        try {
+            MenuSnapshot current = snapshot;
+            // 확인 직후 다른 스레드가 무효화했다면 그 변경을 덮지 않도록 버전을 CAS로 올림
+            if (current == null || !version.compareAndSet(current.getVersion(), current.getVersion() + 1)) {
+                return;
+            }
+            snapshot = MenuSnapshot.of(current.getVersion() + 1, overlay.applyTo(current.getMenus()));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private MenuSnapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            MenuSnapshot current = snapshot;
+            if (isFresh(current)) {
+                hitCounter.increment();
+                return current;
+            }
+
+            // 조회 도중 무효화되면 버전이 어긋나 다음 조회 때 다시 재구성됨
+            long targetVersion = version.get();
+            List<LunchMenu> menus = lunchMenuRepository.findAll();
+            MenuSnapshot rebuilt = MenuSnapshot.of(targetVersion, overlay.applyTo(menus));
+
+            snapshot = rebuilt;
+            rebuildCounter.increment();
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isFresh(MenuSnapshot current) {
+        return current != null && current.getVersion() == version.get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuCacheEvictor;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 커밋된 메뉴 변경을 이 노드의 카탈로그 스냅샷과 2차 캐시에 반영
+ * 둘 다 노드 로컬이라 이 노드를 거친 변경만 무효화되므로, 주기적으로 목록 지문(건수, 최대 ID, 버전 합)을
+ * 집계 쿼리 한 번으로 확인하고 직전 확인 때와 다르면 카탈로그를 무효화하고 LunchMenu 2차 캐시를 비움
+ * - 노드 간 반영 지연은 최대 lunch.catalog.sync.interval (2차 캐시 만료 30분은 DB 직접 수정 대비 안전망으로만 남음)
+ * - 이 노드의 변경도 다음 확인 때 한 번 더 무효화되지만, 변경이 없는 동안에는 집계 쿼리만 실행됨
+ * 단일 노드로만 운영하면 lunch.catalog.sync.enabled=false로 끌 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "lunch.catalog.sync", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MenuCatalogSynchronizer {
+
+    private final LunchMenuRepository lunchMenuRepository;
+    private final MenuCatalog menuCatalog;
+    private final LunchMenuCacheEvictor cacheEvictor;
+
+    // 직전 확인 때의 DB 지문 (처음 확인 전에는 null)
+    private volatile CatalogFingerprint lastSeen;
+
+    @Scheduled(fixedDelayString = "${lunch.catalog.sync.interval:PT5S}")
+    public void sync() {
+        CatalogFingerprint current = CatalogFingerprint.from(lunchMenuRepository.findListVersion());
+        CatalogFingerprint previous = lastSeen;
+        lastSeen = current;
+
+        if (previous != null && !previous.equals(current)) {
+            log.debug("메뉴 목록 변경 감지 ({} -> {}), 카탈로그와 2차 캐시 무효화", previous.toETag(), current.toETag());
+            menuCatalog.invalidate();
+            cacheEvictor.evictAll();
+        }
+    }
+}
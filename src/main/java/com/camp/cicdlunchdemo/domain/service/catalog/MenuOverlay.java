@@ -0,0 +1,17 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+
+import java.util.List;
+
+/**
+ * 카탈로그 스냅샷에 덧씌우는, 아직 DB에 반영되지 않은 변경 (write-behind)
+ * 같은 목록에 여러 번 적용해도 결과가 같아야 함 (ID 기준 교체/제거)
+ */
+@FunctionalInterface
+public interface MenuOverlay {
+
+    MenuOverlay NONE = menus -> menus;
+
+    List<LunchMenu> applyTo(List<LunchMenu> menus);
+}
@@ -0,0 +1,82 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 메뉴 카탈로그의 불변 스냅샷
+ * 특정 버전 시점의 전체 메뉴 목록을 담고 있으며, 생성 이후 변경되지 않음
+ */
+public final class MenuSnapshot {
+
+    @Getter
+    private final long version;
+    @Getter
+    private final List<LunchMenu> menus;
+    private final Map<Long, Integer> indexById;
+    private final ConcurrentMap<Class<?>, Object> derived = new ConcurrentHashMap<>();
+
+    private MenuSnapshot(long version, List<LunchMenu> menus) {
+        this.version = version;
+        this.menus = List.copyOf(menus);
+        this.indexById = indexById(this.menus);
+    }
+
+    public static MenuSnapshot of(long version, List<LunchMenu> menus) {
+        return new MenuSnapshot(version, menus);
+    }
+
+    public int size() {
+        return menus.size();
+    }
+
+    public boolean isEmpty() {
+        return menus.isEmpty();
+    }
+
+    public Optional<LunchMenu> findById(Long id) {
+        Integer index = indexById.get(id);
+        return index != null ? Optional.of(menus.get(index)) : Optional.empty();
+    }
+
+    public int indexOf(Long id) {
+        Integer index = indexById.get(id);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 스냅샷에서 파생되는 자료구조(샘플러, 인덱스 등)를 버전당 한 번만 생성하여 재사용
+     * 스냅샷이 불변이므로 파생 결과도 같은 버전 동안 항상 유효함
+     */
+    public <T> T derive(Class<T> type, Function<MenuSnapshot, T> factory) {
+        Object value = derived.get(type);
+        if (value == null) {
+            T created = factory.apply(this);
+            value = derived.putIfAbsent(type, created);
+            if (value == null) {
+                value = created;
+            }
+        }
+        return type.cast(value);
+    }
+
+    private static Map<Long, Integer> indexById(List<LunchMenu> menus) {
+        Map<Long, Integer> index = new HashMap<>(menus.size() * 2);
+        for (int i = 0; i < menus.size(); i++) {
+            Long id = menus.get(i).getId();
+            if (id != null) {
+                index.put(id, i);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
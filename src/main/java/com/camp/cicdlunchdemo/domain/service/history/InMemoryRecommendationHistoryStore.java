@@ -0,0 +1,81 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 노드 로컬 메모리 기록 저장소 (기본값)
+ * 세션 대신 클라이언트 ID로 관리하므로 세션 메모리를 차지하지 않지만, 여러 노드 간에는 공유되지 않음
+ * 클라이언트별 기록은 RecentIdRing으로 보관하고, 조회 결과는 버퍼를 복사하지 않는 읽기 전용 뷰로 반환
+ * 추가/만료 정리는 ConcurrentHashMap.compute 안에서 하므로 정리와 겹쳐도 이미 빠진 버퍼에 추가되어 사라지는 일이 없음
+ */
+@Component
+@ConditionalOnProperty(name = "lunch.recommendation.history.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRecommendationHistoryStore implements RecommendationHistoryStore {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int windowSize;
+    private final long ttlNanos;
+
+    public InMemoryRecommendationHistoryStore(RecommendationProperties recommendationProperties) {
+        this.windowSize = recommendationProperties.getHistory().getWindowSize();
+        this.ttlNanos = recommendationProperties.getHistory().getTtl().toNanos();
+    }
+
+    @Override
+    public Set<Long> findRecentMenuIds(String clientId) {
+        Entry entry = entries.get(clientId);
+        if (entry == null) {
+            return Set.of();
+        }
+        // 만료된 항목은 여기서 지우지 않음 (동시에 추가된 기록을 지우지 않도록 정리는 compute 안에서만)
+        if (entry.isExpired(System.nanoTime())) {
+            return Set.of();
+        }
+        return entry.ring.asSet();
+    }
+
+    @Override
+    public void append(String clientId, Long menuId) {
+        entries.compute(clientId, (key, entry) -> {
+            long now = System.nanoTime();
+            Entry current = entry == null || entry.isExpired(now) ? new Entry(windowSize) : entry;
+            current.ring.add(menuId);
+            current.expiresAt = now + ttlNanos;
+            return current;
+        });
+    }
+
+    @Override
+    public void clear(String clientId) {
+        entries.remove(clientId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${lunch.recommendation.history.purge-interval:PT5M}")
+    public void purgeExpired() {
+        for (String clientId : entries.keySet()) {
+            entries.computeIfPresent(clientId, (key, entry) -> entry.isExpired(System.nanoTime()) ? null : entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final RecentIdRing ring;
+        private volatile long expiresAt;
+
+        private Entry(int windowSize) {
+            this.ring = new RecentIdRing(windowSize);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DB 테이블(recommendation_history) 기반 기록 저장소
+ * 모든 노드가 같은 테이블을 보므로 로드밸런서 뒤에서 어느 노드로 요청이 가도 같은 기록을 사용
+ * (client_id, menu_id) PK에 upsert 하고, 최근 windowSize개를 넘는 행은 추가 시점에 정리
+ * 기록 시각과 만료 기준은 DB 시계(NOW(6))로 계산하여 노드 간 시계 차이로 순서가 뒤바뀌지 않게 함
+ */
+@Component
+@ConditionalOnProperty(name = "lunch.recommendation.history.store", havingValue = "jdbc")
+public class JdbcRecommendationHistoryStore implements RecommendationHistoryStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int windowSize;
+    private final Duration ttl;
+
+    public JdbcRecommendationHistoryStore(JdbcTemplate jdbcTemplate, RecommendationProperties recommendationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowSize = recommendationProperties.getHistory().getWindowSize();
+        this.ttl = recommendationProperties.getHistory().getTtl();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findRecentMenuIds(String clientId) {
+        List<Long> menuIds = jdbcTemplate.queryForList(
+                "SELECT menu_id FROM recommendation_history "
+                        + "WHERE client_id = ? AND recommended_at > TIMESTAMPADD(SECOND, ?, NOW(6)) "
+                        + "ORDER BY recommended_at DESC LIMIT ?",
+                Long.class, clientId, -ttl.toSeconds(), windowSize);
+        return new LinkedHashSet<>(menuIds);
+    }
+
+    @Override
+    @Transactional
+    public void append(String clientId, Long menuId) {
+        appendAll(clientId, List.of(menuId));
+    }
+
+    /**
+     * 배치 upsert 후 윈도우 정리를 한 번만 수행
+     */
+    @Override
+    @Transactional
+    public void appendAll(String clientId, List<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime recordedAt = firstRecordedAt(clientId);
+        List<Object[]> batchArgs = new ArrayList<>(menuIds.size());
+        for (Long menuId : menuIds) {
+            batchArgs.add(new Object[]{clientId, menuId, recordedAt});
+            recordedAt = recordedAt.plus(1, ChronoUnit.MICROS);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO recommendation_history (client_id, menu_id, recommended_at) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE recommended_at = VALUES(recommended_at)",
+                batchArgs);
+
+        // 가장 오래된 기록부터 윈도우 밖으로 밀려난 행 제거
+        List<LocalDateTime> boundary = jdbcTemplate.queryForList(
+                "SELECT recommended_at FROM recommendation_history WHERE client_id = ? "
+                        + "ORDER BY recommended_at DESC LIMIT 1 OFFSET ?",
+                LocalDateTime.class, clientId, windowSize - 1);
+        if (!boundary.isEmpty()) {
+            jdbcTemplate.update(
+                    "DELETE FROM recommendation_history WHERE client_id = ? AND recommended_at < ?",
+                    clientId, boundary.get(0));
+        }
+    }
+
+    /**
+     * 이번에 추가할 첫 기록의 시각 (DB의 현재 시각과 이 클라이언트의 마지막 기록 + 1µs 중 늦은 쪽)
+     * 같은 트랜잭션/같은 마이크로초에 연달아 추가해도 DATETIME(6) 정밀도에서 순서가 유지됨
+     */
+    private LocalDateTime firstRecordedAt(String clientId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT NOW(6) AS now_at, MAX(recommended_at) AS last_at "
+                        + "FROM recommendation_history WHERE client_id = ?",
+                (rs, rowNum) -> {
+                    LocalDateTime now = rs.getObject("now_at", LocalDateTime.class);
+                    LocalDateTime last = rs.getObject("last_at", LocalDateTime.class);
+                    return last != null && !now.isAfter(last) ? last.plus(1, ChronoUnit.MICROS) : now;
+                },
+                clientId);
+    }
+
+    @Override
+    @Transactional
+    public void clear(String clientId) {
+        jdbcTemplate.update("DELETE FROM recommendation_history WHERE client_id = ?", clientId);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${lunch.recommendation.history.purge-interval:PT5M}")
+    public void purgeExpired() {
+        jdbcTemplate.update(
+                "DELETE FROM recommendation_history WHERE recommended_at <= TIMESTAMPADD(SECOND, ?, NOW(6))",
+                -ttl.toSeconds());
+    }
+}
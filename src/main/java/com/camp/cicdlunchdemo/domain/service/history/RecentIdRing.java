@@ -0,0 +1,170 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 ID를 고정 크기로 보관하는 원형 버퍼 (AtomicLongArray라 박싱/할당 없음)
+ * - 추가: 가장 오래된 칸을 덮어쓰므로 별도의 제거 단계가 없음
+ * - 재추가: 기존 칸을 빼고 뒤의 ID를 한 칸씩 당긴 뒤 가장 최근 칸에 기록하므로, 중복이 있어도 서로 다른 ID를 항상 capacity개까지 보관
+ * 동시성은 버전 카운터(시퀀스 락)로 처리
+ * - 쓰기: 짝수 버전을 CAS로 홀수로 바꾼 스레드만 칸을 고치고 다음 짝수로 올림 (같은 버퍼의 동시 추가만 잠깐 기다림)
+ * - 읽기(contains): 락 없이 칸을 읽고 버전이 그대로인지 확인, 그 사이 쓰기가 있었으면 다시 읽음
+ * 추천마다 호출되는 contains와 add 모두 객체를 만들지 않으며, 제외 목록은 asSet()의 뷰로 넘겨 복사하지 않음
+ * ID는 양수여야 함
+ */
+public class RecentIdRing implements Serializable {
+
+    private final AtomicLongArray slots;
+    private final AtomicLong version = new AtomicLong();
+    // 가장 오래된 ID의 칸 위치
+    private volatile int head;
+    private volatile int size;
+    private transient Set<Long> view;
+
+    public RecentIdRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.slots = new AtomicLongArray(capacity);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public void add(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("ID는 양수여야 합니다: " + id);
+        }
+        long stamp = beginWrite();
+        try {
+            int count = size;
+            int offset = indexOf(id, head, count);
+            if (offset >= 0) {
+                // 이미 있으면 빼고 뒤를 당겨 빈 칸 없이 가장 최근으로 옮김 (순서 갱신)
+                for (int i = offset; i < count - 1; i++) {
+                    slots.set(slot(head, i), slots.get(slot(head, i + 1)));
+                }
+                slots.set(slot(head, count - 1), id);
+            } else if (count < slots.length()) {
+                slots.set(slot(head, count), id);
+                size = count + 1;
+            } else {
+                slots.set(head, id);
+                head = slot(head, 1);
+            }
+        } finally {
+            version.set(stamp + 2);
+        }
+    }
+
+    public boolean contains(long id) {
+        while (true) {
+            long stamp = version.get();
+            if ((stamp & 1) == 0) {
+                boolean found = indexOf(id, head, size) >= 0;
+                if (version.get() == stamp) {
+                    return found;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 현재 보관 중인 ID를 읽는 읽기 전용 뷰 (복사하지 않으며, contains는 버퍼를 직접 확인)
+     * 순회 시에는 그 시점의 ID를 오래된 순으로 복사해 돌려줌
+     */
+    public Set<Long> asSet() {
+        Set<Long> current = view;
+        if (current == null) {
+            // 역직렬화 직후 등 처음 한 번만 생성 (동시에 만들어져도 같은 버퍼를 보므로 무방)
+            current = new View();
+            view = current;
+        }
+        return current;
+    }
+
+    public void clear() {
+        long stamp = beginWrite();
+        head = 0;
+        size = 0;
+        version.set(stamp + 2);
+    }
+
+    /**
+     * 현재 보관 중인 ID (오래된 순)
+     */
+    long[] snapshot() {
+        while (true) {
+            long stamp = version.get();
+            if ((stamp & 1) == 0) {
+                int start = head;
+                int count = Math.min(size, slots.length());
+                long[] ids = new long[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = slots.get(slot(start, i));
+                }
+                if (version.get() == stamp) {
+                    return ids;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 짝수 버전을 홀수로 바꿔 쓰기 권한을 얻음
+     * @return 쓰기 전 버전 (쓰기가 끝나면 + 2로 올림)
+     */
+    private long beginWrite() {
+        while (true) {
+            long stamp = version.get();
+            if ((stamp & 1) == 0 && version.compareAndSet(stamp, stamp + 1)) {
+                return stamp;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return 가장 오래된 ID로부터의 순번, 없으면 -1
+     */
+    private int indexOf(long id, int start, int count) {
+        int bounded = Math.min(count, slots.length());
+        for (int i = 0; i < bounded; i++) {
+            if (slots.get(slot(start, i)) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(int start, int offset) {
+        return (start + offset) % slots.length();
+    }
+
+    private class View extends AbstractSet<Long> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long id && RecentIdRing.this.contains(id);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return Arrays.stream(snapshot()).iterator();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클라이언트별 최근 추천 기록 저장소
+ * 구현체는 최근 windowSize개만 유지하고, 마지막 추천 후 TTL이 지난 기록은 없는 것으로 취급
+ */
+public interface RecommendationHistoryStore {
+
+    /**
+     * 최근 추천된 메뉴 ID 목록 (없거나 만료되었으면 빈 Set)
+     */
+    Set<Long> findRecentMenuIds(String clientId);
+
+    /**
+     * 기록에 메뉴 ID 추가 (이미 있으면 가장 최근으로 갱신, 초과분은 오래된 순으로 제거)
+     */
+    void append(String clientId, Long menuId);
+
+    /**
+     * 여러 메뉴 ID를 순서대로 추가 (배치 추천 결과를 한 번에 기록)
+     */
+    default void appendAll(String clientId, List<Long> menuIds) {
+        menuIds.forEach(menuId -> append(clientId, menuId));
+    }
+
+    void clear(String clientId);
+
+    /**
+     * 만료된 기록 정리
+     */
+    void purgeExpired();
+}
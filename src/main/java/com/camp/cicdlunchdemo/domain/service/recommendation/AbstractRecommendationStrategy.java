@@ -1,7 +1,11 @@
 package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -12,6 +16,13 @@ import java.util.Set;
  */
 public abstract class AbstractRecommendationStrategy implements RecommendationStrategy {
 
+    private final MeterRegistry meterRegistry;
+    private volatile Counter fallbackCounter;
+
+    protected AbstractRecommendationStrategy(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public Optional<LunchMenu> recommend(List<LunchMenu> menus, Set<Long> excludeIds) {
         if (menus.isEmpty()) {
@@ -22,11 +33,42 @@ public abstract class AbstractRecommendationStrategy implements RecommendationSt
 
         if (candidates.isEmpty()) {
             candidates = menus;
+            recordFallback();
         }
 
         return selectMenu(candidates);
     }
 
+    /**
+     * 속성 비트셋 인덱스로 후보 집합을 구해 추첨 (엔티티 순회 없음)
+     * 제외 ID를 빼면 후보가 없는 경우에는 제외 조건만 무시하고 필터 조건은 유지
+     */
+    @Override
+    public Optional<LunchMenu> recommend(MenuSnapshot snapshot, MenuFilter filter, Set<Long> excludeIds) {
+        if (filter == null || filter.isUnrestricted()) {
+            return recommend(snapshot, excludeIds);
+        }
+
+        MenuAttributeIndex index = MenuAttributeIndex.of(snapshot);
+        BitSet candidates = index.candidates(filter);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        BitSet remaining = index.excluding(candidates, excludeIds);
+        if (remaining == candidates && excludeIds != null && !excludeIds.isEmpty()) {
+            recordFallback();
+        }
+        return selectMenu(index, remaining);
+    }
+
+    /**
+     * 비트셋 후보 집합에서 메뉴 하나를 선택
+     * 기본 구현은 후보 목록을 만들어 selectMenu(List)에 위임하며, 인덱스로 바로 추첨할 수 있는 전략은 재정의
+     */
+    protected Optional<LunchMenu> selectMenu(MenuAttributeIndex index, BitSet candidates) {
+        return selectMenu(index.menusOf(candidates));
+    }
+
     /**
      * 제외 대상을 필터링한 후보 목록 반환
      */
@@ -39,6 +81,22 @@ public abstract class AbstractRecommendationStrategy implements RecommendationSt
                 .toList();
     }
 
+    /**
+     * 제외 조건 때문에 후보가 없어 제외 조건을 무시하고 선택한 경우 기록
+     * 전략 이름은 하위 클래스가 정하므로 생성자가 아니라 처음 기록할 때 카운터를 등록
+     */
+    protected void recordFallback() {
+        Counter counter = fallbackCounter;
+        if (counter == null) {
+            counter = Counter.builder(RecommendationMetrics.FALLBACK)
+                    .description("제외 조건을 무시하고 선택한 횟수")
+                    .tag(RecommendationMetrics.STRATEGY_TAG, getStrategyName())
+                    .register(meterRegistry);
+            fallbackCounter = counter;
+        }
+        counter.increment();
+    }
+
     /**
      * 후보 목록에서 메뉴 하나를 선택 (하위 클래스에서 구현)
      */
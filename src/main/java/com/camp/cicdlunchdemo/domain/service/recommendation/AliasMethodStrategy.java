@@ -0,0 +1,78 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Alias method 기반 가중치 추천 전략
+ * WeightedRandomStrategy와 같은 분포를 따르지만, 카탈로그 버전당 한 번 만든 테이블로 O(1) 추첨
+ */
+@Component
+public class AliasMethodStrategy extends AbstractRecommendationStrategy {
+
+    private static final int MAX_REJECTION_ATTEMPTS = 8;
+
+    public AliasMethodStrategy(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    /**
+     * 제외 ID가 있으면 먼저 alias 테이블로 재추첨(rejection)하고,
+     * 제한 횟수 안에 실패하면 누적 가중치 인덱스로 정확히 추첨
+     */
+    @Override
+    public Optional<LunchMenu> recommend(MenuSnapshot snapshot, Set<Long> excludeIds) {
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<LunchMenu> menus = snapshot.getMenus();
+        AliasTable table = snapshot.derive(AliasTable.class, s -> AliasTable.of(s.getMenus()));
+        if (excludeIds == null || excludeIds.isEmpty()) {
+            return Optional.of(menus.get(table.sample()));
+        }
+
+        for (int attempt = 0; attempt < MAX_REJECTION_ATTEMPTS; attempt++) {
+            LunchMenu candidate = menus.get(table.sample());
+            if (!excludeIds.contains(candidate.getId())) {
+                return Optional.of(candidate);
+            }
+        }
+
+        CumulativeWeightIndex index = snapshot.derive(CumulativeWeightIndex.class,
+                s -> CumulativeWeightIndex.of(s.getMenus()));
+        int selected = index.sampleExcluding(snapshot, excludeIds);
+        if (selected < 0) {
+            // 모두 제외된 경우 전체 목록에서 선택
+            recordFallback();
+            return Optional.of(menus.get(table.sample()));
+        }
+        return Optional.of(menus.get(selected));
+    }
+
+    /**
+     * 후보 집합이 요청마다 달라 alias 테이블을 만들 이득이 없으므로 같은 분포의 누적 가중치 추첨을 사용
+     */
+    @Override
+    protected Optional<LunchMenu> selectMenu(MenuAttributeIndex index, BitSet candidates) {
+        return Optional.of(index.menuAt(index.sampleWeighted(candidates)));
+    }
+
+    @Override
+    protected Optional<LunchMenu> selectMenu(List<LunchMenu> candidates) {
+        AliasTable table = AliasTable.of(candidates);
+        return Optional.of(candidates.get(table.sample()));
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "ALIAS_METHOD";
+    }
+}
@@ -0,0 +1,110 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Walker/Vose alias method 기반 가중치 샘플러
+ * 생성 시 O(n)으로 테이블을 만들고, 이후 추첨은 O(1)이며 객체를 생성하지 않음
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    public static AliasTable of(List<LunchMenu> menus) {
+        int[] weights = new int[menus.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = menus.get(i).getWeight();
+        }
+        return of(weights);
+    }
+
+    /**
+     * 가중치 배열로 테이블 생성 (가중치 합이 0이면 균등 확률)
+     */
+    public static AliasTable of(int[] weights) {
+        int n = weights.length;
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+
+        long totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += Math.max(weight, 0);
+        }
+
+        if (totalWeight == 0) {
+            for (int i = 0; i < n; i++) {
+                probability[i] = 1.0;
+                alias[i] = i;
+            }
+            return new AliasTable(probability, alias);
+        }
+
+        // 평균이 1이 되도록 정규화한 뒤, 1 미만(small)과 1 이상(large)으로 분류
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (double) Math.max(weights[i], 0) * n / totalWeight;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // small 칸의 남는 공간을 large 항목으로 채움
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // 부동소수점 오차로 남은 항목은 확률 1로 고정
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+
+        return new AliasTable(probability, alias);
+    }
+
+    /**
+     * 가중치 비율에 따라 인덱스 하나를 선택
+     */
+    public int sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+}
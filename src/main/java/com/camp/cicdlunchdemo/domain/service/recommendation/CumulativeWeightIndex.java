@@ -0,0 +1,99 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 누적 가중치(prefix sum) 인덱스
+ * 카탈로그 스냅샷이 불변이므로 갱신 기능이 필요 없어 Fenwick 트리 대신 정렬된 누적합 배열을 사용
+ * 제외 ID가 있어도 후보 목록을 복사하지 않고 O(k * (k + log n))에 추첨 (k = 제외 개수)
+ */
+public final class CumulativeWeightIndex {
+
+    private final int[] weights;
+    private final long[] cumulative;
+
+    private CumulativeWeightIndex(int[] weights) {
+        this.weights = weights;
+        this.cumulative = new long[weights.length];
+        long sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+    }
+
+    public static CumulativeWeightIndex of(List<LunchMenu> menus) {
+        int[] weights = new int[menus.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.max(menus.get(i).getWeight(), 0);
+        }
+        return new CumulativeWeightIndex(weights);
+    }
+
+    public long totalWeight() {
+        return cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+    }
+
+    /**
+     * 제외 ID를 뺀 나머지에서 가중치 비율로 인덱스 하나를 선택
+     * @return 선택된 인덱스, 남은 가중치 합이 0이면 -1
+     */
+    public int sampleExcluding(MenuSnapshot snapshot, Set<Long> excludeIds) {
+        boolean hasExclusions = excludeIds != null && !excludeIds.isEmpty();
+        long excludedWeight = hasExclusions ? excludedWeightUpTo(snapshot, excludeIds, cumulative.length - 1) : 0;
+        long remaining = totalWeight() - excludedWeight;
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        long target = ThreadLocalRandom.current().nextLong(remaining);
+        if (!hasExclusions) {
+            return search(target);
+        }
+
+        // 제외 항목을 건너뛴 압축 좌표의 target을 원래 좌표로 옮긴다.
+        // offset(앞쪽 제외 가중치 합)은 단조 증가하며 최대 k + 1번 안에 수렴
+        long offset = 0;
+        while (true) {
+            int index = search(target + offset);
+            long excludedBefore = excludedWeightUpTo(snapshot, excludeIds, index);
+            if (excludedBefore == offset) {
+                return index;
+            }
+            offset = excludedBefore;
+        }
+    }
+
+    /**
+     * cumulative[i] > value 를 만족하는 가장 작은 i (이진 탐색)
+     */
+    private int search(long value) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private long excludedWeightUpTo(MenuSnapshot snapshot, Set<Long> excludeIds, int lastIndex) {
+        long sum = 0;
+        for (Long id : excludeIds) {
+            int index = snapshot.indexOf(id);
+            if (index >= 0 && index <= lastIndex) {
+                sum += weights[index];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,170 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 속성별 비트셋 인덱스
+ * 스냅샷의 메뉴 위치를 비트로 두고 카테고리/맵기/가중치 값마다 비트셋을 만들어 둠
+ * 필터 조건은 비트셋 OR(범위)/AND(조건 간)로 후보 집합을 구하고, 엔티티를 순회하지 않고 가중치 배열로 바로 추첨
+ */
+public final class MenuAttributeIndex {
+
+    private final MenuSnapshot snapshot;
+    private final int[] weights;
+    private final Map<Category, BitSet> byCategory = new EnumMap<>(Category.class);
+    private final BitSet[] bySpicyLevel;
+    private final BitSet[] byWeight;
+
+    private MenuAttributeIndex(MenuSnapshot snapshot) {
+        this.snapshot = snapshot;
+        List<LunchMenu> menus = snapshot.getMenus();
+        int size = menus.size();
+
+        this.weights = new int[size];
+        int maxSpicyLevel = 0;
+        int maxWeight = 0;
+        for (int i = 0; i < size; i++) {
+            LunchMenu menu = menus.get(i);
+            weights[i] = Math.max(menu.getWeight(), 0);
+            maxSpicyLevel = Math.max(maxSpicyLevel, menu.getSpicyLevel());
+            maxWeight = Math.max(maxWeight, weights[i]);
+        }
+
+        for (Category category : Category.values()) {
+            byCategory.put(category, new BitSet(size));
+        }
+        this.bySpicyLevel = newBitSets(maxSpicyLevel + 1, size);
+        this.byWeight = newBitSets(maxWeight + 1, size);
+
+        for (int i = 0; i < size; i++) {
+            LunchMenu menu = menus.get(i);
+            byCategory.get(menu.getCategory()).set(i);
+            bySpicyLevel[Math.max(menu.getSpicyLevel(), 0)].set(i);
+            byWeight[weights[i]].set(i);
+        }
+    }
+
+    /**
+     * 스냅샷 버전당 한 번만 생성되는 인덱스
+     */
+    public static MenuAttributeIndex of(MenuSnapshot snapshot) {
+        return snapshot.derive(MenuAttributeIndex.class, MenuAttributeIndex::new);
+    }
+
+    /**
+     * 필터 조건을 모두 만족하는 메뉴 위치 집합 (호출마다 새 비트셋을 반환하므로 수정해도 됨)
+     */
+    public BitSet candidates(MenuFilter filter) {
+        BitSet result = new BitSet(weights.length);
+        for (Category category : filter.allowedCategories()) {
+            result.or(byCategory.get(category));
+        }
+        if (filter.getMinSpicyLevel() != null || filter.getMaxSpicyLevel() != null) {
+            result.and(union(bySpicyLevel, filter.getMinSpicyLevel(), filter.getMaxSpicyLevel()));
+        }
+        if (filter.getMinWeight() != null || filter.getMaxWeight() != null) {
+            result.and(union(byWeight, filter.getMinWeight(), filter.getMaxWeight()));
+        }
+        return result;
+    }
+
+    /**
+     * 후보 집합에서 제외 ID를 뺀 집합 (모두 제외되면 원래 후보 집합을 그대로 반환)
+     */
+    public BitSet excluding(BitSet candidates, Set<Long> excludeIds) {
+        if (excludeIds == null || excludeIds.isEmpty()) {
+            return candidates;
+        }
+        BitSet remaining = (BitSet) candidates.clone();
+        for (Long id : excludeIds) {
+            int index = snapshot.indexOf(id);
+            if (index >= 0) {
+                remaining.clear(index);
+            }
+        }
+        return remaining.isEmpty() ? candidates : remaining;
+    }
+
+    /**
+     * 후보 중 하나를 균등 확률로 선택
+     * @return 선택된 위치, 후보가 없으면 -1
+     */
+    public int sampleUniform(BitSet candidates) {
+        int cardinality = candidates.cardinality();
+        if (cardinality == 0) {
+            return -1;
+        }
+        int target = ThreadLocalRandom.current().nextInt(cardinality);
+        int index = candidates.nextSetBit(0);
+        for (int i = 0; i < target; i++) {
+            index = candidates.nextSetBit(index + 1);
+        }
+        return index;
+    }
+
+    /**
+     * 후보 중 하나를 weight 비율로 선택 (가중치 합이 0이면 균등 확률)
+     * @return 선택된 위치, 후보가 없으면 -1
+     */
+    public int sampleWeighted(BitSet candidates) {
+        long totalWeight = 0;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            totalWeight += weights[i];
+        }
+        if (totalWeight == 0) {
+            return sampleUniform(candidates);
+        }
+
+        long target = ThreadLocalRandom.current().nextLong(totalWeight);
+        long cumulative = 0;
+        int last = -1;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            cumulative += weights[i];
+            if (target < cumulative) {
+                return i;
+            }
+            last = i;
+        }
+        return last;
+    }
+
+    public LunchMenu menuAt(int index) {
+        return snapshot.getMenus().get(index);
+    }
+
+    public List<LunchMenu> menusOf(BitSet candidates) {
+        List<LunchMenu> menus = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            menus.add(snapshot.getMenus().get(i));
+        }
+        return menus;
+    }
+
+    private BitSet union(BitSet[] bitSets, Integer min, Integer max) {
+        BitSet result = new BitSet(weights.length);
+        int from = min != null ? Math.max(min, 0) : 0;
+        int to = max != null ? Math.min(max, bitSets.length - 1) : bitSets.length - 1;
+        for (int value = from; value <= to; value++) {
+            result.or(bitSets[value]);
+        }
+        return result;
+    }
+
+    private static BitSet[] newBitSets(int count, int size) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet(size);
+        }
+        return bitSets;
+    }
+}
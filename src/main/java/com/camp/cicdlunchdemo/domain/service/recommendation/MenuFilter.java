@@ -0,0 +1,105 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 추천 후보 속성 조건 (예: 맵기 1 이하, 일식 제외, 가중치 3 이상)
+ * 지정하지 않은 조건은 제한 없음으로 취급하며, 범위 조건은 양 끝을 포함
+ */
+@Getter
+public final class MenuFilter {
+
+    public static final MenuFilter NONE = MenuFilter.builder().build();
+
+    /**
+     * 허용 카테고리 (비어 있으면 전체)
+     */
+    private final Set<Category> categories;
+    private final Set<Category> excludedCategories;
+    private final Integer minSpicyLevel;
+    private final Integer maxSpicyLevel;
+    private final Integer minWeight;
+    private final Integer maxWeight;
+    // 메뉴마다 matches에서 다시 만들지 않도록 생성 시 한 번 계산
+    @Getter(AccessLevel.NONE)
+    private final Set<Category> allowedCategories;
+
+    /**
+     * @throws IllegalArgumentException 범위 조건의 최솟값이 최댓값보다 큰 경우
+     */
+    @Builder(toBuilder = true)
+    private MenuFilter(Set<Category> categories, Set<Category> excludedCategories,
+                       Integer minSpicyLevel, Integer maxSpicyLevel, Integer minWeight, Integer maxWeight) {
+        checkRange("spicyLevel", minSpicyLevel, maxSpicyLevel);
+        checkRange("weight", minWeight, maxWeight);
+        this.categories = copyOf(categories);
+        this.excludedCategories = copyOf(excludedCategories);
+        this.minSpicyLevel = minSpicyLevel;
+        this.maxSpicyLevel = maxSpicyLevel;
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+        this.allowedCategories = computeAllowedCategories(this.categories, this.excludedCategories);
+    }
+
+    public static MenuFilter ofCategories(Set<Category> categories) {
+        return MenuFilter.builder().categories(categories).build();
+    }
+
+    public boolean isUnrestricted() {
+        return categories.isEmpty() && excludedCategories.isEmpty()
+                && minSpicyLevel == null && maxSpicyLevel == null
+                && minWeight == null && maxWeight == null;
+    }
+
+    /**
+     * 허용 카테고리에서 제외 카테고리를 뺀 최종 카테고리 집합 (읽기 전용)
+     */
+    public Set<Category> allowedCategories() {
+        return allowedCategories;
+    }
+
+    /**
+     * 허용 카테고리 조건만 뺀 필터 (카테고리 인덱스로 범위를 먼저 좁힌 뒤 나머지 조건을 적용할 때 사용)
+     */
+    public MenuFilter withoutCategories() {
+        return toBuilder().categories(Set.of()).build();
+    }
+
+    public boolean matches(LunchMenu menu) {
+        return allowedCategories.contains(menu.getCategory())
+                && inRange(menu.getSpicyLevel(), minSpicyLevel, maxSpicyLevel)
+                && inRange(menu.getWeight(), minWeight, maxWeight);
+    }
+
+    private static boolean inRange(int value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static void checkRange(String name, Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException(name + " 최솟값(" + min + ")이 최댓값(" + max + ")보다 큽니다.");
+        }
+    }
+
+    private static Set<Category> computeAllowedCategories(Set<Category> categories, Set<Category> excludedCategories) {
+        EnumSet<Category> allowed = categories.isEmpty()
+                ? EnumSet.allOf(Category.class)
+                : EnumSet.copyOf(categories);
+        allowed.removeAll(excludedCategories);
+        return Collections.unmodifiableSet(allowed);
+    }
+
+    private static Set<Category> copyOf(Set<Category> categories) {
+        return categories == null || categories.isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(categories));
+    }
+}
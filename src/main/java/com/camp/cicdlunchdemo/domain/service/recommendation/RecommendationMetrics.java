@@ -0,0 +1,78 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 추천 지연 시간/결과 메트릭 (strategy 태그 = 전략 이름 또는 샘플러 이름)
+ * - lunch.recommendation.latency: 추천 한 번의 소요 시간 타이머
+ *   클라이언트 측 percentile 계산 없이 범위를 제한한 히스토그램 버킷만 내보내고, percentile은 Prometheus에서 집계
+ * - lunch.recommendation.empty: 추천 결과가 없었던 횟수
+ * - lunch.recommendation.fallback: 제외 조건 때문에 후보가 없어 제외 조건을 무시한 횟수 (전략에서 기록)
+ */
+@Component
+public class RecommendationMetrics {
+
+    public static final String LATENCY = "lunch.recommendation.latency";
+    public static final String EMPTY = "lunch.recommendation.empty";
+    public static final String FALLBACK = "lunch.recommendation.fallback";
+    public static final String STRATEGY_TAG = "strategy";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, StrategyMeters> metersByStrategy = new ConcurrentHashMap<>();
+
+    public RecommendationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Optional<LunchMenu> recordOne(String strategyName, Supplier<Optional<LunchMenu>> recommendation) {
+        StrategyMeters meters = metersOf(strategyName);
+        long start = System.nanoTime();
+        Optional<LunchMenu> result = recommendation.get();
+        meters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (result.isEmpty()) {
+            meters.empty.increment();
+        }
+        return result;
+    }
+
+    public List<LunchMenu> recordMany(String strategyName, Supplier<List<LunchMenu>> recommendation) {
+        StrategyMeters meters = metersOf(strategyName);
+        long start = System.nanoTime();
+        List<LunchMenu> result = recommendation.get();
+        meters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (result.isEmpty()) {
+            meters.empty.increment();
+        }
+        return result;
+    }
+
+    private StrategyMeters metersOf(String strategyName) {
+        return metersByStrategy.computeIfAbsent(strategyName, name -> new StrategyMeters(
+                Timer.builder(LATENCY)
+                        .description("추천 소요 시간")
+                        .tag(STRATEGY_TAG, name)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(500))
+                        .maximumExpectedValue(Duration.ofMillis(500))
+                        .register(meterRegistry),
+                Counter.builder(EMPTY)
+                        .description("추천 결과가 없었던 횟수")
+                        .tag(STRATEGY_TAG, name)
+                        .register(meterRegistry)));
+    }
+
+    private record StrategyMeters(Timer latency, Counter empty) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +20,32 @@ public interface RecommendationStrategy {
      */
     Optional<LunchMenu> recommend(List<LunchMenu> menus, Set<Long> excludeIds);
 
+    /**
+     * 카탈로그 스냅샷에서 하나를 추천
+     * 스냅샷에 미리 만들어 둔 자료구조를 활용할 수 있는 전략은 이 메서드를 재정의
+     * @param snapshot 메뉴 카탈로그 스냅샷
+     * @param excludeIds 제외할 메뉴 ID 목록
+     * @return 추천된 메뉴
+     */
+    default Optional<LunchMenu> recommend(MenuSnapshot snapshot, Set<Long> excludeIds) {
+        return recommend(snapshot.getMenus(), excludeIds);
+    }
+
+    /**
+     * 카탈로그 스냅샷에서 필터 조건을 만족하는 메뉴 하나를 추천
+     * 기본 구현은 메뉴를 순회하며 조건을 검사하고, AbstractRecommendationStrategy는 속성 비트셋 인덱스를 사용
+     * @param snapshot 메뉴 카탈로그 스냅샷
+     * @param filter 속성 조건 (조건을 만족하는 메뉴가 없으면 빈 결과)
+     * @param excludeIds 제외할 메뉴 ID 목록
+     * @return 추천된 메뉴
+     */
+    default Optional<LunchMenu> recommend(MenuSnapshot snapshot, MenuFilter filter, Set<Long> excludeIds) {
+        if (filter == null || filter.isUnrestricted()) {
+            return recommend(snapshot, excludeIds);
+        }
+        return recommend(snapshot.getMenus().stream().filter(filter::matches).toList(), excludeIds);
+    }
+
     /**
      * 전략 이름
      */
@@ -0,0 +1,38 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전략 이름(getStrategyName)으로 추천 전략 빈을 찾는 레지스트리
+ */
+@Component
+public class RecommendationStrategyRegistry {
+
+    private final Map<String, RecommendationStrategy> strategies = new LinkedHashMap<>();
+
+    public RecommendationStrategyRegistry(List<RecommendationStrategy> strategies) {
+        for (RecommendationStrategy strategy : strategies) {
+            this.strategies.put(strategy.getStrategyName(), strategy);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 등록되지 않은 전략 이름인 경우
+     */
+    public RecommendationStrategy get(String strategyName) {
+        RecommendationStrategy strategy = strategies.get(strategyName);
+        if (strategy == null) {
+            throw new IllegalArgumentException("지원하지 않는 추천 전략입니다: " + strategyName);
+        }
+        return strategy;
+    }
+
+    public Set<String> getStrategyNames() {
+        return strategies.keySet();
+    }
+}
@@ -1,8 +1,10 @@
 package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
@@ -14,6 +16,15 @@ import java.util.concurrent.ThreadLocalRandom;
 @Component
 public class SimpleRandomStrategy extends AbstractRecommendationStrategy {
 
+    public SimpleRandomStrategy(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    @Override
+    protected Optional<LunchMenu> selectMenu(MenuAttributeIndex index, BitSet candidates) {
+        return Optional.of(index.menuAt(index.sampleUniform(candidates)));
+    }
+
     @Override
     protected Optional<LunchMenu> selectMenu(List<LunchMenu> candidates) {
         int randomIndex = ThreadLocalRandom.current().nextInt(candidates.size());
@@ -1,10 +1,14 @@
 package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -14,6 +18,35 @@ import java.util.concurrent.ThreadLocalRandom;
 @Component
 public class WeightedRandomStrategy extends AbstractRecommendationStrategy {
 
+    public WeightedRandomStrategy(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    /**
+     * 스냅샷의 누적 가중치 인덱스로 추첨 (후보 목록 복사 없이 제외 처리)
+     */
+    @Override
+    public Optional<LunchMenu> recommend(MenuSnapshot snapshot, Set<Long> excludeIds) {
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CumulativeWeightIndex index = snapshot.derive(CumulativeWeightIndex.class,
+                s -> CumulativeWeightIndex.of(s.getMenus()));
+        int selected = index.sampleExcluding(snapshot, excludeIds);
+
+        if (selected < 0) {
+            // 후보가 모두 제외되었거나 가중치 합이 0이면 목록 기반 로직으로 처리
+            return recommend(snapshot.getMenus(), excludeIds);
+        }
+        return Optional.of(snapshot.getMenus().get(selected));
+    }
+
+    @Override
+    protected Optional<LunchMenu> selectMenu(MenuAttributeIndex index, BitSet candidates) {
+        return Optional.of(index.menuAt(index.sampleWeighted(candidates)));
+    }
+
     @Override
     protected Optional<LunchMenu> selectMenu(List<LunchMenu> candidates) {
         int totalWeight = candidates.stream()
@@ -0,0 +1,140 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가중치 비복원 추출 (Efraimidis–Spirakis A-Res)
+ * 메뉴마다 key = ln(u) / weight (u ~ U(0,1))를 매기고 key가 큰 count개를 고르면
+ * weight 비례로 하나씩 뽑아 제외하기를 count번 반복한 것과 같은 분포가 됨
+ * 크기 count의 최소 힙만 유지하므로 목록을 한 번 순회하며 O(n log count), 추가 메모리 O(count)
+ */
+public final class WeightedReservoirSampler {
+
+    private WeightedReservoirSampler() {
+    }
+
+    /**
+     * 제외 대상이 아닌 메뉴에서 최대 count개를 뽑고, 부족하면 제외 대상에서 마저 채움
+     * @return key가 큰 순서(먼저 뽑힌 순서)의 서로 다른 메뉴 목록
+     */
+    public static List<LunchMenu> sample(List<LunchMenu> menus, Set<Long> excludeIds, int count) {
+        boolean hasExcludes = excludeIds != null && !excludeIds.isEmpty();
+        List<LunchMenu> selected = sample(menus, excludeIds, count, false);
+
+        if (hasExcludes && selected.size() < count) {
+            selected.addAll(sample(menus, excludeIds, count - selected.size(), true));
+        }
+        return selected;
+    }
+
+    private static List<LunchMenu> sample(List<LunchMenu> menus, Set<Long> excludeIds, int count, boolean excluded) {
+        KeyHeap heap = new KeyHeap(Math.min(count, menus.size()));
+        if (heap.capacity == 0) {
+            return new ArrayList<>();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < menus.size(); i++) {
+            LunchMenu menu = menus.get(i);
+            boolean isExcluded = excludeIds != null && excludeIds.contains(menu.getId());
+            if (isExcluded != excluded) {
+                continue;
+            }
+            // weight가 0 이하인 메뉴는 다른 후보가 모자랄 때만 뽑힘
+            double key = Math.log(1.0 - random.nextDouble()) / Math.max(menu.getWeight(), Double.MIN_VALUE);
+            heap.offer(key, i);
+        }
+
+        int[] indexes = heap.drainDescending();
+        List<LunchMenu> result = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            result.add(menus.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * (key, index) 쌍을 원시 배열로 보관하는 크기 제한 최소 힙 (순회 중 객체 할당 없음)
+     */
+    private static final class KeyHeap {
+
+        private final int capacity;
+        private final double[] keys;
+        private final int[] indexes;
+        private int size;
+
+        private KeyHeap(int capacity) {
+            this.capacity = capacity;
+            this.keys = new double[capacity];
+            this.indexes = new int[capacity];
+        }
+
+        private void offer(double key, int index) {
+            if (size < capacity) {
+                keys[size] = key;
+                indexes[size] = index;
+                siftUp(size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                indexes[0] = index;
+                siftDown(0);
+            }
+        }
+
+        private int[] drainDescending() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = indexes[0];
+                size--;
+                keys[0] = keys[size];
+                indexes[0] = indexes[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= keys[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int smallest = i;
+                if (left < size && keys[left] < keys[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && keys[right] < keys[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            int index = indexes[a];
+            indexes[a] = indexes[b];
+            indexes[b] = index;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.camp.cicdlunchdemo.domain.service.writebehind;
+
+import java.time.Instant;
+
+/**
+ * 성공으로 응답했지만 DB에 반영되지 못하고 버려진 변경
+ * @param lostVersion 버려진 수정의 버전 (삭제였으면 null)
+ * @param lostAt 버려진 시각 (보관 기간 계산용)
+ */
+public record LostMenuWrite(Long id, Long lostVersion, Reason reason, Instant lostAt) {
+
+    public enum Reason {
+        /** 반영 전에 다른 곳에서 수정/삭제되어 조건부 UPDATE가 반영되지 않음 */
+        CONFLICT,
+        /** 반영이 maxAttempts번 연속 실패하여 버림 */
+        DROPPED
+    }
+
+    public boolean isDelete() {
+        return lostVersion == null;
+    }
+}
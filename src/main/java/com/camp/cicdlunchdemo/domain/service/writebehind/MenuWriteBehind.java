@@ -0,0 +1,378 @@
+package com.camp.cicdlunchdemo.domain.service.writebehind;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
+import com.camp.cicdlunchdemo.config.WriteBehindProperties;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.exception.MenuConcurrentModificationException;
+import com.camp.cicdlunchdemo.domain.exception.MenuNotFoundException;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.DatabaseMenuSampler;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 메뉴 수정/삭제 write-behind (lunch.write-behind.enabled=true 일 때 사용)
+ * - 수정/삭제를 메뉴 ID별 대기열에 넣고, 같은 메뉴의 연속된 변경은 하나로 합침
+ * - 넣는 즉시 카탈로그 스냅샷에 덧씌워 이후 조회/추천이 바로 변경을 보게 함 (read-your-writes)
+ * - 주기적으로 batchSize개씩 한 트랜잭션으로 DB에 반영 (수정은 조건부 UPDATE, 삭제는 일괄 DELETE)
+ * 낙관적 락: 요청의 version은 대기 중인 변경까지 포함한 현재 버전과 비교하고, 수정마다 버전이 1씩 오름
+ * DB 반영 시에는 대기열에 들어오기 전 버전을 조건으로 마지막 버전을 기록하므로, 그 사이 다른 곳에서 수정했으면
+ * 반영하지 않고 버림 (lunch.write-behind.conflicts)
+ * 반영이 실패한 묶음은 한 건씩 다시 반영하고, maxAttempts번 연속 실패한 변경은 버림 (lunch.write-behind.dropped)
+ * 충돌/실패로 버린 변경은 메뉴 ID별로 lostWriteRetention 동안 기록해 두고 단건 조회에서 한 번 알림 (takeLost)
+ * 메뉴 등록은 ID가 필요하므로 항상 동기로 처리
+ * 대기 중인 변경은 카탈로그 스냅샷(목록/추천/지문)과 단건 조회에만 덧씌워짐
+ * - DB를 직접 읽는 키셋 페이지(?limit=)와 내보내기(/export)에는 반영 전까지 보이지 않음
+ * - DB 샘플링 모드는 추천/목록을 DB에서 읽어 변경이 보이지 않으므로 함께 켜면 기동하지 않음
+ * 단일 노드 전용: 대기열과 오버레이는 이 노드 메모리에만 있어 다른 노드는 반영 전까지 변경을 보지 못하고,
+ * 요청의 version도 이 노드가 아는 버전과만 비교하므로 다른 노드의 수정과 겹치면 이미 성공으로 응답한 변경이
+ * 반영 시점에 충돌로 버려짐 (레플리카가 둘 이상이면 끌 것)
+ */
+@Slf4j
+@Component
+public class MenuWriteBehind {
+
+    private final LunchMenuRepository lunchMenuRepository;
+    private final DatabaseMenuSampler databaseMenuSampler;
+    private final MenuCatalog menuCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindProperties properties;
+    private final ConcurrentMap<Long, PendingMenuMutation> pending = new ConcurrentHashMap<>();
+    // 메뉴 ID별 연속 반영 실패 횟수 (반영/충돌/버림 시 제거)
+    private final ConcurrentMap<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    // 메뉴 ID별로 버려진 변경 (단건 조회에서 알린 뒤 또는 보관 기간이 지나면 제거)
+    private final ConcurrentMap<Long, LostMenuWrite> lost = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter coalescedCounter;
+    private final Counter conflictCounter;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public MenuWriteBehind(LunchMenuRepository lunchMenuRepository, DatabaseMenuSampler databaseMenuSampler,
+                           MenuCatalog menuCatalog, TransactionTemplate transactionTemplate,
+                           WriteBehindProperties properties, RecommendationProperties recommendationProperties,
+                           MeterRegistry meterRegistry) {
+        if (properties.isEnabled() && recommendationProperties.getSamplingMode() == SamplingMode.DATABASE) {
+            throw new IllegalStateException("write-behind(lunch.write-behind.enabled)는 DB 샘플링 모드"
+                    + "(lunch.recommendation.sampling-mode=DATABASE)와 함께 쓸 수 없습니다: "
+                    + "DB에서 읽는 추천/목록에 대기 중인 변경이 보이지 않습니다.");
+        }
+        this.lunchMenuRepository = lunchMenuRepository;
+        this.databaseMenuSampler = databaseMenuSampler;
+        this.menuCatalog = menuCatalog;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.coalescedCounter = Counter.builder("lunch.write-behind.coalesced")
+                .description("대기 중인 변경에 합쳐진 변경 수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("lunch.write-behind.conflicts")
+                .description("DB 반영 시 버전 충돌로 버려진 변경 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("lunch.write-behind.flushed")
+                .description("DB에 반영된 변경 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("lunch.write-behind.dropped")
+                .description("반영이 계속 실패하여 버려진 변경 수")
+                .register(meterRegistry);
+        Gauge.builder("lunch.write-behind.pending", pending, ConcurrentMap::size)
+                .description("DB 반영을 기다리는 메뉴 수")
+                .register(meterRegistry);
+        menuCatalog.registerOverlay(this::applyTo);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    public Optional<PendingMenuMutation> findPending(Long id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    /**
+     * 버려진 변경이 있으면 꺼내서 반환 (한 번만 반환하며, 보관 기간이 지난 기록은 무시)
+     */
+    public Optional<LostMenuWrite> takeLost(Long id) {
+        LostMenuWrite write = lost.remove(id);
+        if (write == null || isExpired(write, Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(write);
+    }
+
+    /**
+     * 수정을 대기열에 넣고 변경이 반영된 메뉴(사본)를 반환
+     * @param current 대기 중인 변경이 없을 때 기준이 되는 현재 메뉴 (카탈로그 스냅샷 또는 DB)
+     *                compute 안에서 I/O를 하지 않도록 대기 중인 변경이 없으면 compute 전에 조회함
+     * @return 대기열이 가득 차서 넣지 못하면 empty (호출 측에서 동기로 반영)
+     * @throws MenuNotFoundException 삭제 대기 중인 메뉴인 경우
+     * @throws MenuConcurrentModificationException version이 대기 중인 변경을 포함한 현재 버전과 다른 경우
+     */
+    public Optional<LunchMenu> enqueueUpdate(Long id, LunchMenuForm form, Supplier<LunchMenu> current) {
+        if (isFull(id)) {
+            return Optional.empty();
+        }
+        PendingMenuMutation queued;
+        do {
+            LunchMenu resolved = pending.containsKey(id) ? null : current.get();
+            queued = pending.compute(id, (key, existing) -> {
+                if (existing == null && resolved == null) {
+                    // 조회 후 그 사이 반영이 끝나 대기열에서 빠졌으면 기준을 다시 조회
+                    return null;
+                }
+                return enqueuedUpdate(id, form, existing, existing != null ? existing.menu() : resolved);
+            });
+        } while (queued == null);
+        // 새 변경이 받아들여졌으면 그 전에 버려진 변경은 더 알리지 않음
+        lost.remove(id);
+        menuCatalog.refreshOverlay();
+        return Optional.of(queued.menu());
+    }
+
+    private PendingMenuMutation enqueuedUpdate(Long id, LunchMenuForm form, PendingMenuMutation existing,
+                                               LunchMenu base) {
+        if (existing != null && existing.isDelete()) {
+            throw new MenuNotFoundException(id);
+        }
+        if (form.getVersion() != null && !form.getVersion().equals(base.getVersion())) {
+            throw new MenuConcurrentModificationException();
+        }
+
+        LunchMenu updated = base.detachedCopy();
+        updated.update(form.getName(), form.getDescription(), form.getCategory(),
+                form.getSpicyLevel(), form.getWeight());
+        updated.markModified(base.getVersion() + 1, LocalDateTime.now());
+
+        if (existing == null) {
+            return PendingMenuMutation.update(updated, base.getVersion(), base.getWeight());
+        }
+        coalescedCounter.increment();
+        return existing.coalesce(updated);
+    }
+
+    /**
+     * 삭제를 대기열에 넣음
+     * @param current 대기 중인 변경이 없을 때 기준이 되는 현재 메뉴 (없으면 MenuNotFoundException을 던져야 함)
+     *                compute 안에서 I/O를 하지 않도록 대기 중인 변경이 없으면 compute 전에 조회함
+     * @return 대기열이 가득 차서 넣지 못하면 false (호출 측에서 동기로 반영)
+     * @throws MenuNotFoundException 없는 메뉴이거나 이미 삭제 대기 중인 경우
+     */
+    public boolean enqueueDelete(Long id, Supplier<LunchMenu> current) {
+        if (isFull(id)) {
+            return false;
+        }
+        PendingMenuMutation queued;
+        do {
+            LunchMenu resolved = pending.containsKey(id) ? null : current.get();
+            queued = pending.compute(id, (key, existing) -> {
+                if (existing == null) {
+                    // resolved가 null이면 조회 후 그 사이 반영이 끝나 대기열에서 빠진 것이므로 기준을 다시 조회
+                    return resolved != null
+                            ? PendingMenuMutation.delete(id, resolved.getVersion(), resolved.getWeight())
+                            : null;
+                }
+                if (existing.isDelete()) {
+                    throw new MenuNotFoundException(id);
+                }
+                coalescedCounter.increment();
+                return PendingMenuMutation.delete(id, existing.baseVersion(), existing.baseWeight());
+            });
+        } while (queued == null);
+        lost.remove(id);
+        menuCatalog.refreshOverlay();
+        return true;
+    }
+
+    /**
+     * 목록에 대기 중인 변경을 덧씌움 (ID 기준 교체/제거, 대기 중인 변경이 없으면 그대로 반환)
+     */
+    public List<LunchMenu> applyTo(List<LunchMenu> menus) {
+        if (pending.isEmpty()) {
+            return menus;
+        }
+        List<LunchMenu> applied = new ArrayList<>(menus.size());
+        for (LunchMenu menu : menus) {
+            PendingMenuMutation mutation = menu.getId() != null ? pending.get(menu.getId()) : null;
+            if (mutation == null) {
+                applied.add(menu);
+            } else if (!mutation.isDelete()) {
+                applied.add(mutation.menu());
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 대기 중인 변경을 batchSize개씩 트랜잭션 단위로 DB에 반영
+     * 반영이 실패(DB 오류)한 묶음은 한 건씩 다시 반영하여 실패한 변경만 대기열에 남기고 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${lunch.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        purgeExpiredLost();
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<PendingMenuMutation> batch = new ArrayList<>(properties.getBatchSize());
+            for (PendingMenuMutation mutation : pending.values()) {
+                batch.add(mutation);
+                if (batch.size() >= properties.getBatchSize()) {
+                    flushBatch(batch);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushBatch(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushBatch(List<PendingMenuMutation> batch) {
+        List<PendingMenuMutation> conflicts = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                conflicts.clear();
+                writeBatch(batch, conflicts);
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 한 건 때문에 묶음 전체가 막히지 않도록 나누어 다시 반영
+                log.warn("메뉴 write-behind 묶음 반영 실패, 한 건씩 다시 반영 (변경 {}건): {}", batch.size(), e.toString());
+                batch.forEach(mutation -> flushBatch(List.of(mutation)));
+            } else {
+                recordFailure(batch.get(0), e);
+            }
+            return;
+        }
+
+        for (PendingMenuMutation mutation : batch) {
+            failedAttempts.remove(mutation.id());
+            boolean conflicted = conflicts.contains(mutation);
+            if (conflicted) {
+                conflictCounter.increment();
+                recordLost(pending.getOrDefault(mutation.id(), mutation), LostMenuWrite.Reason.CONFLICT);
+                log.warn("메뉴 write-behind 수정이 버전 충돌로 반영되지 않음 (ID: {}, 기준 버전: {})",
+                        mutation.id(), mutation.baseVersion());
+            } else {
+                flushedCounter.increment();
+            }
+            // 반영 중에 합쳐진 새 변경은 남기되 반영된 버전 기준으로 옮기고, 충돌이면 함께 버림
+            pending.computeIfPresent(mutation.id(), (id, current) ->
+                    current == mutation || conflicted ? null : current.rebaseOn(mutation));
+        }
+        menuCatalog.invalidate();
+    }
+
+    /**
+     * 한 건 반영 실패 기록 (maxAttempts번 연속 실패하면 대기 중인 변경을 버리고 DB 기준으로 되돌림)
+     */
+    private void recordFailure(PendingMenuMutation mutation, RuntimeException e) {
+        int attempts = failedAttempts.merge(mutation.id(), 1, Integer::sum);
+        if (attempts < properties.getMaxAttempts()) {
+            log.warn("메뉴 write-behind 반영 실패, 다음 주기에 재시도 (ID: {}, {}/{}회): {}",
+                    mutation.id(), attempts, properties.getMaxAttempts(), e.toString());
+            return;
+        }
+
+        log.error("메뉴 write-behind 반영이 {}회 연속 실패하여 변경을 버림 (ID: {}, 기준 버전: {})",
+                attempts, mutation.id(), mutation.baseVersion(), e);
+        failedAttempts.remove(mutation.id());
+        // 반영 중에 합쳐진 변경도 같은 변경을 포함하므로 함께 버림
+        PendingMenuMutation latest = pending.remove(mutation.id());
+        droppedCounter.increment();
+        recordLost(latest != null ? latest : mutation, LostMenuWrite.Reason.DROPPED);
+        menuCatalog.invalidate();
+    }
+
+    private void writeBatch(List<PendingMenuMutation> batch, List<PendingMenuMutation> conflicts) {
+        List<Long> deleteIds = batch.stream()
+                .filter(PendingMenuMutation::isDelete)
+                .map(PendingMenuMutation::id)
+                .toList();
+        if (!deleteIds.isEmpty()) {
+            lunchMenuRepository.deleteAllByIdInBatch(deleteIds);
+        }
+
+        boolean weightChanged = false;
+        for (PendingMenuMutation mutation : batch) {
+            if (mutation.isDelete()) {
+                continue;
+            }
+            LunchMenu row = mutation.menu();
+            // 가중치가 바뀌면 구간 크기가 달라지므로 끝에 새 구간을 붙이고, 같으면 DB의 구간을 그대로 둠 (동기 수정과 동일)
+            long nextWeightStart = 0;
+            if (row.getWeight() != mutation.baseWeight()) {
+                nextWeightStart = databaseMenuSampler.allocateWeightStart(row.getWeight());
+                weightChanged = true;
+            }
+            if (lunchMenuRepository.updateIfVersion(row, mutation.baseVersion(), nextWeightStart) == 0) {
+                conflicts.add(mutation);
+            }
+        }
+
+        if (weightChanged || !deleteIds.isEmpty()) {
+            databaseMenuSampler.compactIfNeeded();
+        }
+    }
+
+    /**
+     * 버려진 변경 기록
+     * @param latest 대기열에 남아 있던 최신 변경 (반영 중에 합쳐진 변경도 함께 버려지므로 그 버전으로 기록)
+     */
+    private void recordLost(PendingMenuMutation latest, LostMenuWrite.Reason reason) {
+        Long lostVersion = latest.pendingMenu().map(LunchMenu::getVersion).orElse(null);
+        lost.put(latest.id(), new LostMenuWrite(latest.id(), lostVersion, reason, Instant.now()));
+    }
+
+    private void purgeExpiredLost() {
+        if (lost.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        lost.values().removeIf(write -> isExpired(write, now));
+    }
+
+    private boolean isExpired(LostMenuWrite write, Instant now) {
+        return write.lostAt().plus(properties.getLostWriteRetention()).isBefore(now);
+    }
+
+    /**
+     * 대기 중이 아닌 메뉴를 새로 넣을 자리가 없는지 (상한은 대략적으로 지켜짐)
+     */
+    private boolean isFull(Long id) {
+        return !pending.containsKey(id) && pending.size() >= properties.getQueueCapacity();
+    }
+}
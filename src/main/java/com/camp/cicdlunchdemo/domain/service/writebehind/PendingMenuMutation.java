@@ -0,0 +1,47 @@
+package com.camp.cicdlunchdemo.domain.service.writebehind;
+
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+
+import java.util.Optional;
+
+/**
+ * DB 반영을 기다리는 메뉴 하나의 변경 (같은 메뉴의 연속된 변경은 하나로 합쳐짐)
+ * @param menu 변경이 반영된 메뉴 사본 (삭제면 null)
+ * @param baseVersion 대기열에 들어오기 전 DB의 버전 (조건부 UPDATE의 기준)
+ * @param baseWeight 대기열에 들어오기 전 DB의 가중치 (바뀌었으면 반영 시 가중치 구간을 새로 배정)
+ */
+public record PendingMenuMutation(Long id, LunchMenu menu, Long baseVersion, int baseWeight) {
+
+    static PendingMenuMutation update(LunchMenu menu, Long baseVersion, int baseWeight) {
+        return new PendingMenuMutation(menu.getId(), menu, baseVersion, baseWeight);
+    }
+
+    static PendingMenuMutation delete(Long id, Long baseVersion, int baseWeight) {
+        return new PendingMenuMutation(id, null, baseVersion, baseWeight);
+    }
+
+    public boolean isDelete() {
+        return menu == null;
+    }
+
+    /**
+     * 읽기 경로에 보여줄 메뉴 (삭제 대기면 empty)
+     */
+    public Optional<LunchMenu> pendingMenu() {
+        return Optional.ofNullable(menu);
+    }
+
+    /**
+     * 같은 메뉴의 새 수정을 합침 (기준 버전/가중치는 유지)
+     */
+    PendingMenuMutation coalesce(LunchMenu updated) {
+        return new PendingMenuMutation(id, updated, baseVersion, baseWeight);
+    }
+
+    /**
+     * 반영 중에 합쳐진 변경을 반영이 끝난 버전/가중치 기준으로 옮김
+     */
+    PendingMenuMutation rebaseOn(PendingMenuMutation flushed) {
+        return new PendingMenuMutation(id, menu, flushed.menu.getVersion(), flushed.menu.getWeight());
+    }
+}
@@ -0,0 +1,138 @@
+package com.camp.cicdlunchdemo.trace;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 왕복 횟수를 요청 추적에 기록하는 DataSource 래퍼
+ * - Statement의 execute* 호출마다 문장 1회 (배치 실행도 1회)
+ * - 추적 중인 요청에서 얻은 ResultSet만 감싸서 next()가 true인 횟수를 행 수로 기록
+ *   (요청 밖의 대량 조회에는 행 단위 프록시 비용이 붙지 않음)
+ * 커넥션 풀(Hikari) 바깥을 감싸므로 풀 메트릭/헬스 체크는 unwrap으로 원본에 접근
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 프록시끼리의 equals/hashCode는 프록시 자신을 기준으로 처리
+     */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // createStatement/prepareStatement/prepareCall 반환 타입(Statement/PreparedStatement/CallableStatement) 그대로 노출
+                return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(result, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final Connection connectionProxy;
+
+        StatementHandler(Object target, Connection connectionProxy) {
+            super(target);
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null && name.startsWith("execute")) {
+                trace.onStatement();
+            }
+            Object result = invokeTarget(target, method, args);
+            if (trace != null && result instanceof ResultSet resultSet) {
+                return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet, trace));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final RequestTrace trace;
+
+        ResultSetHandler(ResultSet target, RequestTrace trace) {
+            super(target);
+            this.trace = trace;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                trace.onRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.camp.cicdlunchdemo.trace;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 요청 하나의 추적 상태
+ * 요청을 처리하는 스레드에 바인딩되어 구간 진입/종료와 JDBC 문장/행 수를 누적함 (스레드 간 공유하지 않음)
+ * 문장/행 수는 가장 안쪽 구간에만 더하고, 구간이 끝날 때 바깥 구간으로 합산하여 구간마다 하위 구간 포함 값을 가짐
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String uri;
+    private final int maxSpans;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<SpanBuilder> spans = new ArrayList<>();
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private int statements;
+    private long rowsFetched;
+    private int droppedSpans;
+
+    public RequestTrace(String method, String uri, int maxSpans) {
+        this.method = method;
+        this.uri = uri;
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * 현재 스레드에서 추적 중인 요청 (요청 밖이면 null)
+     */
+    @Nullable
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 추적이 trace일 때만 해제 (비동기 디스패치로 다른 요청이 바인딩된 경우 보존)
+     */
+    public static void unbind(RequestTrace trace) {
+        if (CURRENT.get() == trace) {
+            CURRENT.remove();
+        }
+    }
+
+    public void enter(TraceLayer layer, String name) {
+        SpanBuilder span = null;
+        if (spans.size() < maxSpans) {
+            span = new SpanBuilder(layer, name, frames.size());
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+        frames.push(new Frame(span, System.nanoTime()));
+    }
+
+    public void exit() {
+        Frame frame = frames.poll();
+        if (frame == null) {
+            return;
+        }
+        if (frame.span != null) {
+            frame.span.durationNanos = System.nanoTime() - frame.startNanos;
+            frame.span.statements = frame.statements;
+            frame.span.rowsFetched = frame.rowsFetched;
+        }
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.statements += frame.statements;
+            parent.rowsFetched += frame.rowsFetched;
+        }
+    }
+
+    public void onStatement() {
+        statements++;
+        Frame frame = frames.peek();
+        if (frame != null) {
+            frame.statements++;
+        }
+    }
+
+    public void onRow() {
+        rowsFetched++;
+        Frame frame = frames.peek();
+        if (frame != null) {
+            frame.rowsFetched++;
+        }
+    }
+
+    public RequestTraceRecord finish(int status) {
+        long durationNanos = System.nanoTime() - startNanos;
+        List<RequestTraceRecord.Span> recorded = spans.stream()
+                .map(SpanBuilder::build)
+                .toList();
+        return new RequestTraceRecord(startedAt, method, uri, status, toMicros(durationNanos),
+                statements, rowsFetched, recorded, droppedSpans);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static final class Frame {
+
+        private final SpanBuilder span;
+        private final long startNanos;
+        private int statements;
+        private long rowsFetched;
+
+        private Frame(SpanBuilder span, long startNanos) {
+            this.span = span;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class SpanBuilder {
+
+        private final TraceLayer layer;
+        private final String name;
+        private final int depth;
+        // 요청 종료 시점까지 끝나지 않은 구간은 -1
+        private long durationNanos = -1;
+        private int statements;
+        private long rowsFetched;
+
+        private SpanBuilder(TraceLayer layer, String name, int depth) {
+            this.layer = layer;
+            this.name = name;
+            this.depth = depth;
+        }
+
+        private RequestTraceRecord.Span build() {
+            long durationMicros = durationNanos < 0 ? -1 : toMicros(durationNanos);
+            return new RequestTraceRecord.Span(layer, name, depth, durationMicros, statements, rowsFetched);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.camp.cicdlunchdemo.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 요청 추적 결과를 고정 크기로 보관하는 lock-free 원형 버퍼
+ * 커서를 원자적으로 증가시켜 얻은 칸에 기록하고, 가장 오래된 결과를 덮어씀
+ */
+public class RequestTraceBuffer {
+
+    private final AtomicReferenceArray<RequestTraceRecord> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public RequestTraceBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(RequestTraceRecord record) {
+        int index = (int) (cursor.getAndIncrement() % slots.length());
+        slots.set(index, record);
+    }
+
+    /**
+     * 보관 중인 결과 (최근 순)
+     */
+    public List<RequestTraceRecord> recent() {
+        int capacity = slots.length();
+        long end = cursor.get();
+        List<RequestTraceRecord> records = new ArrayList<>(capacity);
+        for (long position = end - 1; position >= Math.max(0, end - capacity); position--) {
+            RequestTraceRecord record = slots.get((int) (position % capacity));
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.camp.cicdlunchdemo.trace;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 최근 요청 추적 결과 조회 (GET /actuator/requesttraces)
+ * 인증 없는 삭제 작업(DELETE)이 있으므로 웹 노출은 local 프로파일에서만 설정
+ * 예) ?minStatements=10 으로 N+1 의심 요청만, ?minRows=1000 으로 전체 스캔 의심 요청만 조회
+ */
+@Endpoint(id = "requesttraces")
+public class RequestTraceEndpoint {
+
+    private final RequestTraceBuffer buffer;
+
+    public RequestTraceEndpoint(RequestTraceBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @ReadOperation
+    public List<RequestTraceRecord> traces(@Nullable Integer minStatements, @Nullable Long minRows) {
+        return buffer.recent().stream()
+                .filter(trace -> minStatements == null || trace.statements() >= minStatements)
+                .filter(trace -> minRows == null || trace.rowsFetched() >= minRows)
+                .toList();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        buffer.clear();
+    }
+}
@@ -0,0 +1,80 @@
+package com.camp.cicdlunchdemo.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * HTTP 요청 Observation(http.server.requests)을 루트로 요청별 추적을 시작/종료하고,
+ * 그 안의 계층 구간(lunch.trace.span)을 요청 추적에 기록하는 핸들러
+ * - 요청 추적은 Observation 컨텍스트에 보관하고, 스코프가 열린 스레드에만 바인딩 (비동기 디스패치 시 다른 스레드에서 이어짐)
+ * - 종료된 요청은 원형 버퍼에 적재
+ */
+public class RequestTraceObservationHandler implements ObservationHandler<Observation.Context> {
+
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final RequestTraceBuffer buffer;
+    private final int maxSpans;
+
+    public RequestTraceObservationHandler(RequestTraceBuffer buffer, int maxSpans) {
+        this.buffer = buffer;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext || context instanceof TraceSpanContext;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext requestContext) {
+            HttpServletRequest request = requestContext.getCarrier();
+            if (!request.getRequestURI().startsWith(request.getContextPath() + ACTUATOR_PATH)) {
+                context.put(RequestTrace.class, new RequestTrace(request.getMethod(), request.getRequestURI(), maxSpans));
+            }
+        } else if (context instanceof TraceSpanContext spanContext) {
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null) {
+                trace.enter(spanContext.getLayer(), spanContext.getContextualName());
+                context.put(RequestTrace.class, trace);
+            }
+        }
+    }
+
+    @Override
+    public void onScopeOpened(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext) {
+            RequestTrace trace = context.get(RequestTrace.class);
+            if (trace != null) {
+                RequestTrace.bind(trace);
+            }
+        }
+    }
+
+    @Override
+    public void onScopeClosed(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext) {
+            RequestTrace trace = context.get(RequestTrace.class);
+            if (trace != null) {
+                RequestTrace.unbind(trace);
+            }
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        RequestTrace trace = context.get(RequestTrace.class);
+        if (trace == null) {
+            return;
+        }
+        if (context instanceof ServerRequestObservationContext requestContext) {
+            int status = requestContext.getResponse() != null ? requestContext.getResponse().getStatus() : 0;
+            buffer.add(trace.finish(status));
+        } else {
+            trace.exit();
+        }
+    }
+}
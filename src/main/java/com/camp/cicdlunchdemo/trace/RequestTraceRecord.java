@@ -0,0 +1,35 @@
+package com.camp.cicdlunchdemo.trace;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 완료된 요청 하나의 추적 결과 (actuator requesttraces 엔드포인트 응답)
+ * @param statements 요청 중 실행된 JDBC 문장 수 (배치 실행은 1회로 셈)
+ * @param rowsFetched 요청 중 ResultSet에서 읽은 행 수
+ * @param spans 구간 목록 (시작 순서, depth로 중첩 표현)
+ * @param droppedSpans 최대 구간 수를 넘어 기록하지 못한 구간 수
+ */
+public record RequestTraceRecord(
+        Instant startedAt,
+        String method,
+        String uri,
+        int status,
+        long durationMicros,
+        int statements,
+        long rowsFetched,
+        List<Span> spans,
+        int droppedSpans) {
+
+    /**
+     * 구간 하나 (문장/행 수는 하위 구간을 포함)
+     */
+    public record Span(
+            TraceLayer layer,
+            String name,
+            int depth,
+            long durationMicros,
+            int statements,
+            long rowsFetched) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.camp.cicdlunchdemo.trace;
+
+import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationStrategy;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+
+/**
+ * 추적 구간 계층
+ */
+public enum TraceLayer {
+
+    CONTROLLER,
+    SERVICE,
+    STRATEGY,
+    REPOSITORY;
+
+    /**
+     * 빈 클래스의 계층 (추적 대상이 아니면 null)
+     * 리포지토리는 프록시 생성 시점에 따로 지정
+     */
+    @Nullable
+    public static TraceLayer of(Class<?> type) {
+        if (RecommendationStrategy.class.isAssignableFrom(type)) {
+            return STRATEGY;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, Controller.class)) {
+            return CONTROLLER;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(type, Service.class)) {
+            return SERVICE;
+        }
+        return null;
+    }
+
+    /**
+     * 구간으로 기록할 메서드인지 여부
+     * 전략은 추천 호출만 기록 (getStrategyName 같은 조회가 구간을 채우지 않도록)
+     */
+    public boolean traces(Method method) {
+        return this != STRATEGY || method.getName().equals("recommend");
+    }
+}
@@ -0,0 +1,54 @@
+package com.camp.cicdlunchdemo.trace;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 컨트롤러/서비스/추천 전략 빈과 Spring Data 리포지토리에 계층 구간 인터셉터를 적용
+ * - 컨트롤러/서비스/전략: 기존 프록시(@Transactional 등)가 있으면 어드바이저만 추가하고, 없으면 클래스 기반 프록시 생성
+ * - 리포지토리: 리포지토리 프록시 생성 시 인터셉터를 추가 (구간 이름은 리포지토리 인터페이스 이름)
+ * Publisher를 반환하는 메서드는 조립 시간만 잴 수 있으므로 제외
+ */
+public class TraceSpanBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public TraceSpanBeanPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+        this.advisor = new DefaultPointcutAdvisor(new LayerPointcut(), new TraceSpanInterceptor(observationRegistry));
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new TraceSpanInterceptor(
+                            observationRegistry, TraceLayer.REPOSITORY,
+                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static class LayerPointcut extends StaticMethodMatcherPointcut {
+
+        LayerPointcut() {
+            setClassFilter(type -> TraceLayer.of(type) != null);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class
+                    && !Publisher.class.isAssignableFrom(method.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.camp.cicdlunchdemo.trace;
+
+import io.micrometer.observation.Observation;
+import lombok.Getter;
+
+/**
+ * 계층 구간 Observation 컨텍스트 (lunch.trace.span)
+ */
+@Getter
+public class TraceSpanContext extends Observation.Context {
+
+    public static final String NAME = "lunch.trace.span";
+
+    private final TraceLayer layer;
+
+    public TraceSpanContext(TraceLayer layer, String spanName) {
+        this.layer = layer;
+        setContextualName(spanName);
+    }
+}
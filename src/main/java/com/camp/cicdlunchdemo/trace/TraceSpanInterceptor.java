@@ -0,0 +1,64 @@
+package com.camp.cicdlunchdemo.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 메서드 호출을 계층 구간 Observation(lunch.trace.span)으로 감싸는 인터셉터
+ * 추적 중인 요청 안에서만 Observation을 만들고, 요청 밖(스케줄러, 기동 시 초기화 등)에서는 바로 호출
+ */
+public class TraceSpanInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    @Nullable
+    private final TraceLayer fixedLayer;
+    @Nullable
+    private final String fixedOwnerName;
+
+    /**
+     * 대상 빈 클래스로 계층과 구간 이름을 정하는 인터셉터
+     */
+    public TraceSpanInterceptor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this(observationRegistry, null, null);
+    }
+
+    /**
+     * 계층과 구간 이름의 소유자를 고정한 인터셉터 (리포지토리 프록시처럼 대상 클래스가 구현체인 경우)
+     */
+    public TraceSpanInterceptor(ObjectProvider<ObservationRegistry> observationRegistry,
+                                @Nullable TraceLayer fixedLayer, @Nullable String fixedOwnerName) {
+        this.observationRegistry = observationRegistry;
+        this.fixedLayer = fixedLayer;
+        this.fixedOwnerName = fixedOwnerName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (RequestTrace.current() == null || ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : method.getDeclaringClass();
+        TraceLayer layer = fixedLayer != null ? fixedLayer : TraceLayer.of(targetClass);
+        if (layer == null || !layer.traces(method)) {
+            return invocation.proceed();
+        }
+
+        String ownerName = fixedOwnerName != null ? fixedOwnerName : targetClass.getSimpleName();
+        TraceSpanContext context = new TraceSpanContext(layer, ownerName + "." + method.getName());
+        return Observation.createNotStarted(TraceSpanContext.NAME, () -> context,
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .lowCardinalityKeyValue("layer", layer.name().toLowerCase())
+                .observeChecked(invocation::proceed);
+    }
+}
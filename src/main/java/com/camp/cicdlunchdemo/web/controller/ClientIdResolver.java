@@ -0,0 +1,130 @@
+package com.camp.cicdlunchdemo.web.controller;
+
+import com.camp.cicdlunchdemo.config.ClientIdProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 추천 기록 키(클라이언트 ID) 결정
+ * 서버가 발급한 "임의값.서명" 형식의 ID만 받아들이므로 다른 클라이언트의 ID를 지어내 기록을 읽거나 지울 수 없음
+ * - X-Client-Id 헤더가 있으면 서명을 확인하여 사용 (발급한 값이 아니면 400)
+ * - 헤더가 없으면 쿠키의 ID를 사용하고, 쿠키도 없거나 유효하지 않으면 새로 발급해 쿠키와 응답 헤더로 내려줌
+ * HTTP 세션을 만들지 않으므로 어느 노드로 요청이 가도 같은 ID를 사용 (서명 키는 모든 노드가 공유)
+ */
+@Slf4j
+@Component
+class ClientIdResolver {
+
+    static final String HEADER = "X-Client-Id";
+    static final String COOKIE = "lunch_client_id";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int ID_BYTES = 16;
+    private static final int SIGNATURE_BYTES = 16;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    private final long cookieMaxAgeSeconds;
+
+    ClientIdResolver(ClientIdProperties properties) {
+        byte[] secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length == 0) {
+            log.warn("lunch.client-id.secret이 비어 있어 임시 서명 키를 사용합니다. 재시작하면 발급한 클라이언트 ID가 무효가 되고 노드 간에 공유되지 않습니다.");
+            secret = new byte[32];
+            RANDOM.nextBytes(secret);
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.cookieMaxAgeSeconds = properties.getCookieMaxAge().toSeconds();
+    }
+
+    /**
+     * @throws IllegalArgumentException 헤더 값이 이 서버가 발급한 ID가 아닌 경우
+     */
+    String resolve(String clientIdHeader, HttpServletRequest request, HttpServletResponse response) {
+        if (clientIdHeader != null && !clientIdHeader.isBlank()) {
+            if (!isIssued(clientIdHeader)) {
+                throw new IllegalArgumentException(HEADER + " 헤더가 유효하지 않습니다. 헤더 없이 요청하여 새 ID를 발급받으세요.");
+            }
+            return clientIdHeader;
+        }
+
+        String cookieValue = cookieValue(request);
+        if (cookieValue != null && isIssued(cookieValue)) {
+            return cookieValue;
+        }
+
+        String clientId = issue();
+        response.setHeader(HEADER, clientId);
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, clientId)
+                .path("/")
+                .maxAge(cookieMaxAgeSeconds)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString());
+        return clientId;
+    }
+
+    /**
+     * 새 클라이언트 ID 발급 (임의값 16바이트 + HMAC 앞 16바이트, Base64url로 45자)
+     */
+    String issue() {
+        byte[] id = new byte[ID_BYTES];
+        RANDOM.nextBytes(id);
+        String encodedId = ENCODER.encodeToString(id);
+        return encodedId + "." + ENCODER.encodeToString(sign(encodedId));
+    }
+
+    private boolean isIssued(String clientId) {
+        int separator = clientId.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(clientId.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(signature, sign(clientId.substring(0, separator)));
+    }
+
+    private byte[] sign(String encodedId) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(encodedId.getBytes(StandardCharsets.US_ASCII)), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -2,18 +2,46 @@ package com.camp.cicdlunchdemo.web.controller;
 
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import com.camp.cicdlunchdemo.domain.service.BulkImportResult;
 import com.camp.cicdlunchdemo.domain.service.LunchMenuService;
+import com.camp.cicdlunchdemo.domain.service.MenuBulkImportService;
+import com.camp.cicdlunchdemo.domain.service.MenuExportService;
 import com.camp.cicdlunchdemo.domain.service.RecommendationHistoryService;
+import com.camp.cicdlunchdemo.domain.service.catalog.CatalogFingerprint;
+import com.camp.cicdlunchdemo.domain.service.writebehind.LostMenuWrite;
 import com.camp.cicdlunchdemo.web.dto.ApiResponse;
+import com.camp.cicdlunchdemo.web.dto.CompactMenuList;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuCsvReader;
 import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import com.camp.cicdlunchdemo.web.dto.MenuCursor;
+import com.camp.cicdlunchdemo.web.dto.MenuFilterRequest;
+import com.camp.cicdlunchdemo.web.dto.MenuPageResponse;
 import com.camp.cicdlunchdemo.web.dto.MenuResponse;
-import jakarta.servlet.http.HttpSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,24 +56,125 @@ public class LunchMenuApiController {
 
     private final LunchMenuService lunchMenuService;
     private final RecommendationHistoryService historyService;
+    private final MenuExportService menuExportService;
+    private final MenuBulkImportService menuBulkImportService;
+    private final ObjectMapper objectMapper;
+    private final MenuListResponseCache menuListResponseCache;
+    private final ClientIdResolver clientIdResolver;
 
+    /**
+     * 메뉴 목록 조회
+     * 목록 전체의 지문을 ETag로 내려주고, 변경이 없으면 304 응답
+     * (삭제는 수정 시각에 남지 않아 노드 간에 일치하는 Last-Modified를 만들 수 없으므로 목록에는 Last-Modified를 내리지 않음)
+     * (지문을 목록보다 먼저 읽으므로 그 사이 변경이 생겨도 ETag가 본문보다 최신일 수는 없음)
+     * ETag는 지문과 형식/gzip 협상 결과만으로 정하므로 304이면 목록 조회나 응답 캐시를 거치지 않음
+     * 200이면 지문 세대별로 캐시해 둔 직렬화 바이트(gzip 허용 시 압축본)를 그대로 기록
+     * (압축본은 크기가 임계값 이상일 때만 만들어지므로 gzip을 허용해도 작은 응답은 압축하지 않지만,
+     *  같은 지문/협상 결과에서는 항상 같은 바이트이므로 ETag는 그대로 유효함)
+     * Accept를 품질값/구체성 순으로 보아 application/vnd.lunch.compact+json이 JSON보다 우선이면
+     * 카테고리 사전 + 배열 행 형식(CompactMenuList)으로 응답 (와일드카드만 있으면 JSON)
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getMenus(
-            @RequestParam(required = false) Category category) {
+    public ResponseEntity<byte[]> getMenus(
+            @RequestParam(required = false) Category category,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse servletResponse) {
 
-        List<MenuResponse> response = lunchMenuService.findByOptionalCategory(category).stream()
-                .map(MenuResponse::from)
-                .toList();
+        CatalogFingerprint fingerprint = lunchMenuService.getCatalogFingerprint();
+        boolean compact = prefersCompact(accept);
+        boolean acceptsGzip = acceptsGzip(acceptEncoding);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        // 304 응답에도 Vary가 실리도록 조건부 검사 전에 설정
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        // 표현(형식/인코딩 협상 결과)마다 본문이 다르므로 strong ETag도 구분
+        String eTag = fingerprint.toETag() + (compact ? "-compact" : "") + (acceptsGzip ? "-gzip" : "");
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        MenuListResponseCache.SerializedResponse serialized = menuListResponseCache.get(
+                fingerprint.toETag(), category, compact, () -> {
+                    List<MenuSummary> summaries = lunchMenuService.findSummariesByOptionalCategory(category);
+                    return compact
+                            ? ApiResponse.success(CompactMenuList.from(summaries))
+                            : ApiResponse.success(summaries.stream().map(MenuResponse::from).toList());
+                });
+        boolean gzip = acceptsGzip && serialized.gzip() != null;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(compact ? CompactMenuList.MEDIA_TYPE : MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(serialized.gzip());
+        }
+        return response.body(serialized.json());
     }
 
+    /**
+     * 키셋 페이지네이션 목록 조회 (limit 파라미터가 있을 때)
+     * 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ApiResponse<MenuPageResponse>> getMenuPage(
+            @RequestParam(required = false) Category category,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+
+        MenuCursor after = cursor != null ? MenuCursor.decode(cursor) : null;
+        Slice<MenuSummary> slice = lunchMenuService.findSummarySlice(
+                category,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                limit);
+
+        return ResponseEntity.ok(ApiResponse.success(MenuPageResponse.from(slice)));
+    }
+
+    /**
+     * 전체 카탈로그를 NDJSON(한 줄에 메뉴 하나)으로 스트리밍
+     * 목록/응답 전체를 메모리에 만들지 않고 DB 커서에서 읽는 즉시 응답에 기록
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMenus() {
+        ObjectWriter writer = objectMapper.writerFor(MenuResponse.class);
+
+        StreamingResponseBody body = out -> menuExportService.export(menu -> {
+            try {
+                out.write(writer.writeValueAsBytes(MenuResponse.from(menu)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 메뉴 단건 조회
+     * 엔티티 버전을 ETag로 내려주고, 변경이 없으면 304 응답
+     * 조회는 한 번만 하며(2차 캐시에 있으면 DB 조회 없음), 그 엔티티의 버전/수정 시각으로 조건부 검사
+     * write-behind에서 성공으로 응답한 변경이 충돌/실패로 버려졌으면 한 번 409로 알리고 현재 메뉴를 함께 내려줌
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<MenuResponse>> getMenu(@PathVariable Long id) {
-        return lunchMenuService.findById(id)
-                .map(menu -> ResponseEntity.ok(ApiResponse.success(MenuResponse.from(menu))))
-                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponse.error("메뉴를 찾을 수 없습니다.")));
+    public ResponseEntity<ApiResponse<MenuResponse>> getMenu(@PathVariable Long id, WebRequest webRequest) {
+        Optional<LostMenuWrite> lostWrite = lunchMenuService.takeLostWrite(id);
+        Optional<LunchMenu> menu = lunchMenuService.findById(id);
+        if (lostWrite.isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(lostWriteMessage(lostWrite.get()), menu.map(MenuResponse::from).orElse(null)));
+        }
+        if (menu.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("메뉴를 찾을 수 없습니다."));
+        }
+        if (webRequest.checkNotModified(eTagOf(menu.get().getVersion()), lastModifiedOf(menu.get().getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok(ApiResponse.success(MenuResponse.from(menu.get())));
     }
 
     @PostMapping
@@ -57,6 +186,33 @@ public class LunchMenuApiController {
                 .body(ApiResponse.success("메뉴가 등록되었습니다.", MenuResponse.from(savedMenu)));
     }
 
+    /**
+     * JSON 배열로 메뉴 일괄 등록 (행 단위 검증, 실패한 행은 결과에 포함)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResult>> bulkImportMenus(
+            @RequestBody List<LunchMenuForm> forms) {
+
+        return bulkImportResponse(menuBulkImportService.importMenus(forms));
+    }
+
+    /**
+     * CSV 파일 업로드로 메뉴 일괄 등록 (헤더: name,description,category,spicyLevel,weight)
+     * 형식이 잘못된 행도 실패한 행으로 결과에 포함되고 나머지 행은 등록됨
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResult>> bulkImportMenusFromCsv(
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        LunchMenuCsvReader.ParsedCsv csv = LunchMenuCsvReader.read(file.getInputStream());
+        return bulkImportResponse(menuBulkImportService.importMenus(csv.forms(), csv.rowErrors()));
+    }
+
+    private ResponseEntity<ApiResponse<BulkImportResult>> bulkImportResponse(BulkImportResult result) {
+        String message = result.getImported() + "건 등록, " + result.getFailures().size() + "건 실패했습니다.";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<MenuResponse>> updateMenu(
             @PathVariable Long id,
@@ -72,24 +228,144 @@ public class LunchMenuApiController {
         return ResponseEntity.ok(ApiResponse.success("메뉴가 삭제되었습니다."));
     }
 
+    /**
+     * 메뉴 추천 (category, excludeCategory, min/maxSpicyLevel, min/maxWeight로 후보 조건 지정 가능)
+     */
     @GetMapping("/recommend")
-    public ResponseEntity<ApiResponse<MenuResponse>> recommendMenu(HttpSession session) {
-        Set<Long> recentMenuIds = historyService.getRecentMenuIds(session);
-        Optional<LunchMenu> menuOpt = lunchMenuService.recommendWeightedRandomExcluding(recentMenuIds);
+    public ResponseEntity<ApiResponse<MenuResponse>> recommendMenu(
+            @RequestParam(required = false) String strategy,
+            MenuFilterRequest filter,
+            @RequestHeader(value = ClientIdResolver.HEADER, required = false) String clientIdHeader,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        String clientId = clientIdResolver.resolve(clientIdHeader, request, response);
+        Set<Long> recentMenuIds = historyService.getRecentMenuIds(clientId);
+        Optional<LunchMenu> menuOpt = lunchMenuService.recommendExcluding(strategy, filter.toFilter(), recentMenuIds);
 
         if (menuOpt.isEmpty()) {
             return ResponseEntity.ok(ApiResponse.error("추천할 메뉴가 없습니다."));
         }
 
         LunchMenu menu = menuOpt.get();
-        historyService.addToHistory(session, menu.getId());
+        historyService.addToHistory(clientId, menu.getId());
 
         return ResponseEntity.ok(ApiResponse.success(MenuResponse.from(menu)));
     }
 
+    /**
+     * 서로 다른 메뉴 count개를 한 번에 추천 (가중치 비복원 추출, 기록은 한 번에 갱신, 후보 조건 지정 가능)
+     */
+    @GetMapping(value = "/recommend", params = "count")
+    public ResponseEntity<ApiResponse<List<MenuResponse>>> recommendMenus(
+            @RequestParam int count,
+            MenuFilterRequest filter,
+            @RequestHeader(value = ClientIdResolver.HEADER, required = false) String clientIdHeader,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        String clientId = clientIdResolver.resolve(clientIdHeader, request, response);
+        Set<Long> recentMenuIds = historyService.getRecentMenuIds(clientId);
+        List<LunchMenu> menus = lunchMenuService.recommendWeightedRandomExcluding(filter.toFilter(), recentMenuIds, count);
+
+        if (menus.isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.error("추천할 메뉴가 없습니다."));
+        }
+
+        historyService.addAllToHistory(clientId, menus.stream().map(LunchMenu::getId).toList());
+
+        return ResponseEntity.ok(ApiResponse.success(menus.stream().map(MenuResponse::from).toList()));
+    }
+
     @DeleteMapping("/recommend/history")
-    public ResponseEntity<ApiResponse<Void>> resetHistory(HttpSession session) {
-        historyService.clearHistory(session);
+    public ResponseEntity<ApiResponse<Void>> resetHistory(
+            @RequestHeader(value = ClientIdResolver.HEADER, required = false) String clientIdHeader,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        historyService.clearHistory(clientIdResolver.resolve(clientIdHeader, request, response));
         return ResponseEntity.ok(ApiResponse.success("추천 기록이 초기화되었습니다."));
     }
+
+    /**
+     * Accept에서 가장 우선하는 미디어 타입이 압축 표현인지 (q=0은 제외, 형식이 잘못된 Accept는 JSON으로 응답)
+     */
+    private static boolean prefersCompact(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return false;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.equalsTypeAndSubtype(CompactMenuList.MEDIA_TYPE)) {
+                return true;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (q=0은 거부, gzip 항목이 없으면 * 항목을 따름)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            boolean accepted = qualityOf(parts) > 0;
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=") || param.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String lostWriteMessage(LostMenuWrite lostWrite) {
+        String change = lostWrite.isDelete() ? "삭제가" : "수정(버전 " + lostWrite.lostVersion() + ")이";
+        String cause = lostWrite.reason() == LostMenuWrite.Reason.CONFLICT
+                ? "다른 곳의 변경과 충돌하여"
+                : "DB 반영이 계속 실패하여";
+        return "앞서 접수된 " + change + " " + cause + " 반영되지 않았습니다. 현재 메뉴를 확인한 뒤 다시 시도하세요.";
+    }
+
+    private static String eTagOf(Long version) {
+        return String.valueOf(version != null ? version : 0L);
+    }
+
+    private static long lastModifiedOf(LocalDateTime updatedAt) {
+        return updatedAt != null
+                ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
 }
@@ -33,7 +33,7 @@ public class LunchMenuController {
 
     @GetMapping("/menus")
     public String list(@RequestParam(required = false) Category category, Model model) {
-        model.addAttribute("menus", lunchMenuService.findByOptionalCategory(category));
+        model.addAttribute("menus", lunchMenuService.findSummariesByOptionalCategory(category));
         model.addAttribute("selectedCategory", category);
         addCommonAttributes(model, "list");
         return "menu/list";
@@ -0,0 +1,91 @@
+package com.camp.cicdlunchdemo.web.controller;
+
+import com.camp.cicdlunchdemo.config.ResponseCacheProperties;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메뉴 목록 응답의 직렬화 결과(JSON 바이트, 선택적으로 gzip 압축본) 캐시
+ * 카탈로그 지문(CatalogFingerprint) 한 세대 동안 카테고리/표현별로 한 번만 직렬화하고,
+ * 메뉴가 변경되어 지문이 바뀌면 이전 세대를 통째로 버림
+ */
+@Component
+@RequiredArgsConstructor
+class MenuListResponseCache {
+
+    private static final String ALL = "*";
+    private static final String COMPACT_PREFIX = "compact:";
+
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+
+    private volatile Generation generation = new Generation("");
+
+    /**
+     * @param fingerprint 현재 카탈로그 지문 (세대 구분)
+     * @param category 카테고리 (null이면 전체)
+     * @param compact 압축 표현(CompactMenuList) 여부
+     * @param body 캐시에 없을 때 직렬화할 응답 본문
+     */
+    SerializedResponse get(String fingerprint, Category category, boolean compact, Supplier<Object> body) {
+        if (!properties.isEnabled()) {
+            return serialize(body.get());
+        }
+
+        Generation current = generation;
+        if (!current.fingerprint.equals(fingerprint)) {
+            current = new Generation(fingerprint);
+            generation = current;
+        }
+        String key = (compact ? COMPACT_PREFIX : "") + (category != null ? category.name() : ALL);
+        return current.responses.computeIfAbsent(key, k -> serialize(body.get()));
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = properties.isGzip() && json.length >= properties.getGzipMinSize() ? gzip(json) : null;
+            return new SerializedResponse(json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static final class Generation {
+
+        private final String fingerprint;
+        private final Map<String, SerializedResponse> responses = new ConcurrentHashMap<>();
+
+        private Generation(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * @param json 직렬화된 JSON
+     * @param gzip gzip 압축본 (압축하지 않는 경우 null)
+     */
+    record SerializedResponse(byte[] json, byte[] gzip) {
+    }
+}
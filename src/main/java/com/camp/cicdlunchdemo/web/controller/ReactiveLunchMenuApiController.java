@@ -0,0 +1,45 @@
+package com.camp.cicdlunchdemo.web.controller;
+
+import com.camp.cicdlunchdemo.domain.service.ReactiveRecommendationService;
+import com.camp.cicdlunchdemo.web.dto.ApiResponse;
+import com.camp.cicdlunchdemo.web.dto.MenuFilterRequest;
+import com.camp.cicdlunchdemo.web.dto.MenuResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 추천 API
+ * Mono를 반환하므로 요청 스레드는 즉시 반환되고(서블릿 비동기 처리), 추천 계산은 ReactiveRecommendationService가
+ * 선택한 스케줄러에서 수행됨
+ * 서블릿 스택 위에서 동작하므로 I/O 자체가 논블로킹이 되는 것은 아니며, 블로킹 I/O(DB/JDBC 기록 저장소)는
+ * boundedElastic 스레드로 넘겨 요청 스레드만 비워 줄 뿐임
+ */
+@RestController
+@RequestMapping("/api/reactive/menus")
+@RequiredArgsConstructor
+public class ReactiveLunchMenuApiController {
+
+    private final ReactiveRecommendationService reactiveRecommendationService;
+    private final ClientIdResolver clientIdResolver;
+
+    @GetMapping("/recommend")
+    public Mono<ApiResponse<MenuResponse>> recommendMenu(
+            @RequestParam(required = false) String strategy,
+            MenuFilterRequest filter,
+            @RequestHeader(value = ClientIdResolver.HEADER, required = false) String clientIdHeader,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        String clientId = clientIdResolver.resolve(clientIdHeader, request, response);
+        return reactiveRecommendationService.recommend(clientId, strategy, filter.toFilter())
+                .map(menu -> ApiResponse.success(MenuResponse.from(menu)))
+                .defaultIfEmpty(ApiResponse.error("추천할 메뉴가 없습니다."));
+    }
+}
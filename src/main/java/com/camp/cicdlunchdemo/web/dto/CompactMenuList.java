@@ -0,0 +1,70 @@
+package com.camp.cicdlunchdemo.web.dto;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 목록 압축 표현 (Accept: application/vnd.lunch.compact+json)
+ * 카테고리 사전을 응답당 한 번만 두고, 각 행은 columns 순서의 배열로 카테고리를 사전 인덱스로 참조
+ * 예) {"categories":[{"code":"KOREAN","displayName":"한식"}],
+ *      "columns":["id","name","description","category","spicyLevel","weight"],
+ *      "rows":[[1,"김치찌개","",0,2,3]]}
+ */
+@Getter
+public class CompactMenuList {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.lunch.compact+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private static final List<String> COLUMNS = List.of("id", "name", "description", "category", "spicyLevel", "weight");
+
+    private final List<CategoryEntry> categories;
+    private final List<String> columns = COLUMNS;
+    private final List<Object[]> rows;
+
+    private CompactMenuList(List<CategoryEntry> categories, List<Object[]> rows) {
+        this.categories = categories;
+        this.rows = rows;
+    }
+
+    public static CompactMenuList from(List<MenuSummary> summaries) {
+        Map<Category, Integer> indexes = new EnumMap<>(Category.class);
+        List<CategoryEntry> categories = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>(summaries.size());
+
+        for (MenuSummary summary : summaries) {
+            Integer categoryIndex = indexes.computeIfAbsent(summary.getCategory(), category -> {
+                categories.add(new CategoryEntry(category.name(), category.getDisplayName()));
+                return categories.size() - 1;
+            });
+            rows.add(new Object[]{
+                    summary.getId(),
+                    summary.getName(),
+                    summary.getDescription() != null ? summary.getDescription() : "",
+                    categoryIndex,
+                    summary.getSpicyLevel(),
+                    summary.getWeight()
+            });
+        }
+        return new CompactMenuList(categories, rows);
+    }
+
+    @Getter
+    public static class CategoryEntry {
+
+        private final String code;
+        private final String displayName;
+
+        private CategoryEntry(String code, String displayName) {
+            this.code = code;
+            this.displayName = displayName;
+        }
+    }
+}
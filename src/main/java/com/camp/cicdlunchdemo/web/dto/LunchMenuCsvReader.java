@@ -0,0 +1,109 @@
+package com.camp.cicdlunchdemo.web.dto;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 일괄 등록용 CSV 파서
+ * 첫 줄은 헤더(name,description,category,spicyLevel,weight)이며 큰따옴표로 감싼 필드를 지원
+ * 값의 제약 조건 검증은 하지 않고 LunchMenuForm으로 변환만 함 (검증은 일괄 등록 서비스에서 행 단위로 수행)
+ * 형식이 잘못된 행은 업로드 전체를 실패시키지 않고 행 오류로 모아 반환 (나머지 행은 그대로 등록됨)
+ */
+public final class LunchMenuCsvReader {
+
+    private static final int COLUMN_COUNT = 5;
+
+    private LunchMenuCsvReader() {
+    }
+
+    /**
+     * 빈 줄을 제외한 데이터 행을 순서대로 읽음
+     * 형식이 잘못된 행은 forms에 null로 자리만 남기고 rowErrors에 행 번호(forms 기준 1부터)와 사유를 기록
+     */
+    public static ParsedCsv read(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<LunchMenuForm> forms = new ArrayList<>();
+        Map<Integer, String> rowErrors = new HashMap<>();
+
+        String line = reader.readLine();
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                forms.add(toForm(parseLine(line, lineNumber), lineNumber));
+            } catch (IllegalArgumentException e) {
+                forms.add(null);
+                rowErrors.put(forms.size(), e.getMessage());
+            }
+        }
+        return new ParsedCsv(forms, rowErrors);
+    }
+
+    /**
+     * @param forms 데이터 행 순서대로의 폼 (형식이 잘못된 행은 null)
+     * @param rowErrors 형식이 잘못된 행의 번호(forms 기준 1부터)와 사유
+     */
+    public record ParsedCsv(List<LunchMenuForm> forms, Map<Integer, String> rowErrors) {
+    }
+
+    private static LunchMenuForm toForm(List<String> columns, int lineNumber) {
+        if (columns.size() != COLUMN_COUNT) {
+            throw new IllegalArgumentException("파일 " + lineNumber + "행: 열 개수가 " + COLUMN_COUNT + "개여야 합니다.");
+        }
+        try {
+            return LunchMenuForm.builder()
+                    .name(columns.get(0))
+                    .description(columns.get(1).isEmpty() ? null : columns.get(1))
+                    .category(Category.valueOf(columns.get(2).trim().toUpperCase()))
+                    .spicyLevel(Integer.parseInt(columns.get(3).trim()))
+                    .weight(Integer.parseInt(columns.get(4).trim()))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("파일 " + lineNumber + "행: 카테고리 또는 숫자 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static List<String> parseLine(String line, int lineNumber) {
+        List<String> columns = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("파일 " + lineNumber + "행: 닫히지 않은 따옴표가 있습니다.");
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+}
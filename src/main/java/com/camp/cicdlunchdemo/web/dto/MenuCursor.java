@@ -0,0 +1,54 @@
+package com.camp.cicdlunchdemo.web.dto;
+
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (마지막 항목의 created_at, id)
+ * 클라이언트에는 불투명한 Base64 URL-safe 문자열로 전달
+ */
+@Getter
+public class MenuCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private MenuCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static MenuCursor of(MenuSummary summary) {
+        return new MenuCursor(summary.getCreatedAt(), summary.getId());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서인 경우
+     */
+    public static MenuCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new MenuCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
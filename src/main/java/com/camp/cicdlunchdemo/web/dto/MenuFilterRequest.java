@@ -0,0 +1,40 @@
+package com.camp.cicdlunchdemo.web.dto;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuFilter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * 추천 API 필터 조건 쿼리 파라미터
+ * 예) ?category=KOREAN&category=CHINESE&excludeCategory=JAPANESE&maxSpicyLevel=1&minWeight=3
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MenuFilterRequest {
+
+    private Set<Category> category;
+    private Set<Category> excludeCategory;
+    private Integer minSpicyLevel;
+    private Integer maxSpicyLevel;
+    private Integer minWeight;
+    private Integer maxWeight;
+
+    /**
+     * @throws IllegalArgumentException 범위 조건의 최솟값이 최댓값보다 큰 경우
+     */
+    public MenuFilter toFilter() {
+        return MenuFilter.builder()
+                .categories(category)
+                .excludedCategories(excludeCategory)
+                .minSpicyLevel(minSpicyLevel)
+                .maxSpicyLevel(maxSpicyLevel)
+                .minWeight(minWeight)
+                .maxWeight(maxWeight)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.camp.cicdlunchdemo.web.dto;
+
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 응답 (다음 페이지가 없으면 nextCursor 생략)
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MenuPageResponse {
+
+    private final List<MenuResponse> menus;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private MenuPageResponse(List<MenuResponse> menus, String nextCursor, boolean hasNext) {
+        this.menus = menus;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static MenuPageResponse from(Slice<MenuSummary> slice) {
+        List<MenuSummary> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? MenuCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new MenuPageResponse(
+                content.stream().map(MenuResponse::from).toList(),
+                nextCursor,
+                slice.hasNext());
+    }
+}
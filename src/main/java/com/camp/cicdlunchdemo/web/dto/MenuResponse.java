@@ -1,6 +1,7 @@
 package com.camp.cicdlunchdemo.web.dto;
 
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -38,4 +39,16 @@ public class MenuResponse {
                 .weight(menu.getWeight())
                 .build();
     }
+
+    public static MenuResponse from(MenuSummary summary) {
+        return MenuResponse.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .description(summary.getDescription() != null ? summary.getDescription() : "")
+                .category(summary.getCategory().name())
+                .categoryDisplayName(summary.getCategory().getDisplayName())
+                .spicyLevel(summary.getSpicyLevel())
+                .weight(summary.getWeight())
+                .build();
+    }
 }
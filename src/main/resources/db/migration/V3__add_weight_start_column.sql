@@ -0,0 +1,5 @@
+-- DB 측 가중치 샘플링을 위한 누적 가중치 구간 시작점 컬럼 추가
+-- MySQL / H2(MODE=MySQL) 공통 문법만 사용하며, 기존 행의 구간은 애플리케이션 기동 시 재계산됨
+ALTER TABLE lunch_menu ADD COLUMN weight_start BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_lunch_menu_weight_start ON lunch_menu (weight_start);
@@ -0,0 +1,4 @@
+-- 목록 키셋 페이지네이션(created_at DESC, id DESC)을 위한 복합 인덱스
+CREATE INDEX idx_lunch_menu_created_at_id ON lunch_menu (created_at, id);
+
+CREATE INDEX idx_lunch_menu_category_created_at_id ON lunch_menu (category, created_at, id);
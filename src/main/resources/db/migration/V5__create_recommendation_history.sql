@@ -0,0 +1,9 @@
+-- 여러 노드가 공유하는 클라이언트별 최근 추천 기록 (lunch.recommendation.history.store=jdbc)
+CREATE TABLE recommendation_history (
+    client_id VARCHAR(64) NOT NULL,
+    menu_id BIGINT NOT NULL,
+    recommended_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (client_id, menu_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_recommendation_history_recommended_at ON recommendation_history (recommended_at);
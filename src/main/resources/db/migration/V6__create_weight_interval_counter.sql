@@ -0,0 +1,8 @@
+-- 가중치 구간 할당 카운터 (단일 행, SELECT ... FOR UPDATE로 잠그고 올려 동시에 등록해도 구간이 겹치지 않게 함)
+CREATE TABLE weight_interval_counter (
+    id INT PRIMARY KEY,
+    next_start BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO weight_interval_counter (id, next_start)
+SELECT 1, COALESCE(MAX(weight_start + weight), 0) FROM lunch_menu;
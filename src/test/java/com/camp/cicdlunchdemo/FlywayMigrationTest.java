@@ -0,0 +1,45 @@
+package com.camp.cicdlunchdemo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 다른 테스트는 ddl-auto로 스키마를 만들므로 별도 DB에서 Flyway 마이그레이션을 실제로 적용하고 엔티티 매핑을 검증
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway-migration;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "lunch.recommendation.sampling-mode=DATABASE"
+})
+@DisplayName("Flyway 마이그레이션 통합 테스트 (H2 MySQL 모드)")
+class FlywayMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("V3로 추가된 기존 행의 가중치 구간이 기동 시 빈틈없이 재계산되고 구간 카운터가 끝을 가리킨다")
+    void compactsMigratedWeightIntervalsOnStartup() {
+        // given - V1 샘플 데이터는 V3에서 weight_start = 0으로 모두 겹친 채 추가됨
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT weight_start, weight FROM lunch_menu ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong("weight_start"), rs.getInt("weight")});
+
+        // then
+        assertThat(rows).isNotEmpty();
+        long cursor = 0;
+        for (long[] row : rows) {
+            assertThat(row[0]).isEqualTo(cursor);
+            cursor += row[1];
+        }
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT next_start FROM weight_interval_counter WHERE id = 1", Long.class))
+                .isEqualTo(cursor);
+    }
+}
@@ -0,0 +1,109 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("LunchMenu 2차 캐시 통합 테스트 (H2)")
+class LunchMenuSecondLevelCacheTest {
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private LunchMenuCacheEvictor cacheEvictor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+        cacheEvictor.evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 메뉴는 2차 캐시에서 읽는다")
+    void readsEntityFromSecondLevelCache() {
+        // given
+        Long id = saveMenu("김치찌개").getId();
+        entityManager.clear();
+        lunchMenuRepository.findById(id);
+        entityManager.clear();
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+        // when
+        LunchMenu menu = lunchMenuRepository.findById(id).orElseThrow();
+
+        // then
+        assertThat(menu.getName()).isEqualTo("김치찌개");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 쿼리 결과를 쿼리 캐시에서 읽는다")
+    void readsCategoryQueryFromQueryCache() {
+        // given
+        saveMenu("김치찌개");
+        entityManager.clear();
+        lunchMenuRepository.findByCategoryOrderByCreatedAtDesc(Category.KOREAN);
+        entityManager.clear();
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        // when
+        lunchMenuRepository.findByCategoryOrderByCreatedAtDesc(Category.KOREAN);
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("JDBC로 직접 수정한 뒤 캐시를 비우면 변경된 값을 읽는다")
+    void readsFreshValueAfterEvictionFollowingJdbcUpdate() {
+        // given
+        Long id = saveMenu("김치찌개").getId();
+        entityManager.clear();
+        lunchMenuRepository.findById(id);
+        entityManager.clear();
+        jdbcTemplate.update("UPDATE lunch_menu SET weight_start = 42 WHERE id = ?", id);
+
+        // when
+        cacheEvictor.evictAll();
+        LunchMenu menu = lunchMenuRepository.findById(id).orElseThrow();
+
+        // then
+        assertThat(menu.getWeightStart()).isEqualTo(42L);
+    }
+
+    private LunchMenu saveMenu(String name) {
+        return lunchMenuRepository.saveAndFlush(LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build());
+    }
+}
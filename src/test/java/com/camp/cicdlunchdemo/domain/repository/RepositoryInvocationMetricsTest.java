@@ -0,0 +1,37 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("리포지토리 메서드별 메트릭 통합 테스트 (H2)")
+class RepositoryInvocationMetricsTest {
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("느린 호출 리스너를 등록해도 리포지토리 메서드 이름으로 태그된 실행 시간 타이머가 기록된다")
+    void recordsInvocationTimerTaggedByMethod() {
+        // when
+        lunchMenuRepository.findAllSummaries();
+
+        // then
+        Timer timer = meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "LunchMenuRepository")
+                .tag("method", "findAllSummaries")
+                .timer();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.camp.cicdlunchdemo.domain.repository;
+
+import com.camp.cicdlunchdemo.config.SlowQueryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowRepositoryInvocationListener 단위 테스트")
+class SlowRepositoryInvocationListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowRepositoryInvocationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        listener = new SlowRepositoryInvocationListener(meterRegistry, properties);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 걸린 호출만 리포지토리/메서드별로 센다")
+    void countsOnlyInvocationsOverThreshold() throws Exception {
+        // given
+        Method findAll = LunchMenuRepository.class.getMethod("findAll");
+
+        // when
+        listener.afterInvocation(invocation(findAll, TimeUnit.MILLISECONDS.toNanos(99)));
+        listener.afterInvocation(invocation(findAll, TimeUnit.MILLISECONDS.toNanos(100)));
+        listener.afterInvocation(invocation(findAll, TimeUnit.MILLISECONDS.toNanos(350)));
+
+        // then
+        assertThat(meterRegistry.get(SlowRepositoryInvocationListener.SLOW_INVOCATIONS)
+                .tag("repository", "LunchMenuRepository")
+                .tag("method", "findAll")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    private RepositoryMethodInvocation invocation(Method method, long durationNanos) {
+        return new RepositoryMethodInvocation(LunchMenuRepository.class, method, null, durationNanos);
+    }
+}
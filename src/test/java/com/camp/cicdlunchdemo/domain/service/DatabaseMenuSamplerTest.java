@@ -0,0 +1,245 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuCacheEvictor;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(properties = "lunch.recommendation.sampling-mode=DATABASE")
+@Transactional
+@DisplayName("DatabaseMenuSampler 통합 테스트 (H2)")
+class DatabaseMenuSamplerTest {
+
+    @Autowired
+    private DatabaseMenuSampler sampler;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LunchMenuCacheEvictor cacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+        sampler.compactWeightIntervals();  // 구간 카운터를 0으로 되돌림
+    }
+
+    @Nested
+    @DisplayName("sampleUniform 메서드")
+    class SampleUniform {
+
+        @Test
+        @DisplayName("메뉴가 없으면 빈 Optional을 반환한다")
+        void returnsEmptyWhenNoMenus() {
+            assertThat(sampler.sampleUniform(Set.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제외 목록에 없는 메뉴 하나를 반환한다")
+        void returnsNonExcludedMenu() {
+            // given
+            LunchMenu first = saveMenu("김치찌개", 1);
+            saveMenu("짜장면", 1);
+            saveMenu("초밥", 1);
+
+            // when & then
+            for (int i = 0; i < 50; i++) {
+                Optional<LunchMenu> result = sampler.sampleUniform(Set.of(first.getId()));
+                assertThat(result).isPresent();
+                assertThat(result.get().getId()).isNotEqualTo(first.getId());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("sampleWeighted 메서드")
+    class SampleWeighted {
+
+        @Test
+        @DisplayName("weight 비율에 맞게 선택한다")
+        void selectsByWeight() {
+            // given
+            LunchMenu light = saveMenu("가벼운 메뉴", 1);
+            LunchMenu heavy = saveMenu("무거운 메뉴", 4);
+            int iterations = 2_000;
+
+            // when
+            Map<Long, Integer> selectionCount = new HashMap<>();
+            for (int i = 0; i < iterations; i++) {
+                sampler.sampleWeighted(Set.of())
+                        .ifPresent(menu -> selectionCount.merge(menu.getId(), 1, Integer::sum));
+            }
+
+            // then
+            double heavyRatio = selectionCount.getOrDefault(heavy.getId(), 0) / (double) iterations;
+            assertThat(heavyRatio).isCloseTo(0.8, within(0.05));
+            assertThat(selectionCount).containsKey(light.getId());
+        }
+
+        @Test
+        @DisplayName("삭제로 생긴 빈 구간은 건너뛴다")
+        void skipsHolesLeftByDeletes() {
+            // given
+            LunchMenu deleted = saveMenu("삭제될 메뉴", 5);
+            LunchMenu remaining = saveMenu("남은 메뉴", 1);
+            lunchMenuRepository.delete(deleted);
+            lunchMenuRepository.flush();
+
+            // when & then
+            for (int i = 0; i < 20; i++) {
+                assertThat(sampler.sampleWeighted(Set.of()))
+                        .map(LunchMenu::getId)
+                        .contains(remaining.getId());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("sampleWeighted(count) 메서드")
+    class SampleWeightedMany {
+
+        @Test
+        @DisplayName("서로 다른 메뉴를 count개 뽑는다")
+        void returnsDistinctMenus() {
+            // given
+            saveMenu("김치찌개", 1);
+            saveMenu("짜장면", 2);
+            saveMenu("초밥", 3);
+            saveMenu("파스타", 4);
+
+            // when
+            List<LunchMenu> result = sampler.sampleWeighted(Set.of(), 3);
+
+            // then
+            assertThat(result).hasSize(3).extracting(LunchMenu::getId).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("메뉴 수가 count + 제외 수보다 적으면 제외 대상이 아닌 메뉴 먼저, 모자라면 제외 대상에서 채운다")
+        void topsUpFromExcludedWhenCatalogIsSmall() {
+            // given
+            LunchMenu kept = saveMenu("김치찌개", 1);
+            LunchMenu excludedA = saveMenu("짜장면", 1);
+            LunchMenu excludedB = saveMenu("초밥", 1);
+            Set<Long> excludeIds = Set.of(excludedA.getId(), excludedB.getId());
+
+            // when
+            List<LunchMenu> result = sampler.sampleWeighted(excludeIds, 3);
+
+            // then
+            assertThat(result).extracting(LunchMenu::getId)
+                    .hasSize(3)
+                    .startsWith(kept.getId())
+                    .containsExactlyInAnyOrder(kept.getId(), excludedA.getId(), excludedB.getId());
+        }
+
+        @Test
+        @DisplayName("메뉴가 count보다 적으면 있는 만큼만 반환한다")
+        void returnsAllWhenFewerThanCount() {
+            // given
+            saveMenu("김치찌개", 1);
+            saveMenu("짜장면", 1);
+
+            // when
+            List<LunchMenu> result = sampler.sampleWeighted(Set.of(), 5);
+
+            // then
+            assertThat(result).hasSize(2).extracting(LunchMenu::getId).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("compaction 후 구간이 ID 순서대로 빈틈없이 배치된다")
+    void compactionPacksIntervals() {
+        // given - 모든 구간 시작점이 0으로 겹친 상태 (마이그레이션 직후와 동일)
+        LunchMenu first = saveMenuAt("메뉴1", 2, 0);
+        LunchMenu second = saveMenuAt("메뉴2", 3, 0);
+        LunchMenu third = saveMenuAt("메뉴3", 1, 0);
+
+        // when
+        sampler.compactIfNeeded();
+        entityManager.clear();
+
+        // then
+        List<LunchMenu> menus = lunchMenuRepository.findAllById(List.of(first.getId(), second.getId(), third.getId()));
+        Map<Long, Long> starts = new HashMap<>();
+        menus.forEach(menu -> starts.put(menu.getId(), menu.getWeightStart()));
+        assertThat(starts).containsEntry(first.getId(), 0L)
+                .containsEntry(second.getId(), 2L)
+                .containsEntry(third.getId(), 5L);
+        assertThat(sampler.nextWeightStart()).isEqualTo(6L);
+        assertThat(sampler.allocateWeightStart(1)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("새 구간은 이전에 할당한 구간의 끝에서 시작하여 겹치지 않는다")
+    void allocatesNonOverlappingIntervals() {
+        // when
+        long first = sampler.allocateWeightStart(3);
+        long second = sampler.allocateWeightStart(2);
+        long third = sampler.allocateWeightStart(4);
+
+        // then
+        assertThat(second).isEqualTo(first + 3);
+        assertThat(third).isEqualTo(second + 2);
+    }
+
+    @Test
+    @DisplayName("카탈로그 모드에서는 카운터를 잠그거나 올리지 않고 0을 반환한다")
+    void skipsCounterInCatalogMode() {
+        // given
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.setSamplingMode(SamplingMode.CATALOG);
+        DatabaseMenuSampler catalogSampler =
+                new DatabaseMenuSampler(lunchMenuRepository, jdbcTemplate, cacheEvictor, properties);
+        sampler.allocateWeightStart(3);
+
+        // when
+        long start = catalogSampler.allocateWeightStart(5);
+
+        // then
+        assertThat(start).isZero();
+        assertThat(sampler.allocateWeightStart(0)).isEqualTo(3L);
+    }
+
+    private LunchMenu saveMenu(String name, int weight) {
+        return saveMenuAt(name, weight, sampler.allocateWeightStart(weight));
+    }
+
+    private LunchMenu saveMenuAt(String name, int weight, long weightStart) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(weight)
+                .build();
+        menu.assignWeightStart(weightStart);
+        return lunchMenuRepository.saveAndFlush(menu);
+    }
+}
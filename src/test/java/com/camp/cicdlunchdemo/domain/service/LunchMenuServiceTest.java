@@ -1,21 +1,40 @@
 package com.camp.cicdlunchdemo.domain.service;
 
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
 import com.camp.cicdlunchdemo.domain.exception.MenuConcurrentModificationException;
 import com.camp.cicdlunchdemo.domain.exception.MenuNotFoundException;
 import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import com.camp.cicdlunchdemo.domain.repository.MenuVersion;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import com.camp.cicdlunchdemo.domain.service.recommendation.AliasMethodStrategy;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuFilter;
+import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationMetrics;
+import com.camp.cicdlunchdemo.domain.service.recommendation.RecommendationStrategyRegistry;
 import com.camp.cicdlunchdemo.domain.service.recommendation.SimpleRandomStrategy;
 import com.camp.cicdlunchdemo.domain.service.recommendation.WeightedRandomStrategy;
+import com.camp.cicdlunchdemo.domain.service.writebehind.MenuWriteBehind;
+import com.camp.cicdlunchdemo.domain.service.writebehind.PendingMenuMutation;
 import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -23,8 +42,13 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +67,33 @@ class LunchMenuServiceTest {
     @Mock
     private SimpleRandomStrategy simpleRandomStrategy;
 
+    @Mock
+    private RecommendationStrategyRegistry strategyRegistry;
+
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    @Mock
+    private DatabaseMenuSampler databaseMenuSampler;
+
+    @Mock
+    private RecommendationProperties recommendationProperties;
+
+    @Mock
+    private MenuWriteBehind menuWriteBehind;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RecommendationMetrics recommendationMetrics = new RecommendationMetrics(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        // 메트릭 태그로 전략 이름을 사용하므로 목 전략에도 이름을 부여
+        lenient().when(weightedRandomStrategy.getStrategyName()).thenReturn("WEIGHTED_RANDOM");
+        lenient().when(simpleRandomStrategy.getStrategyName()).thenReturn("SIMPLE_RANDOM");
+    }
+
     @Nested
     @DisplayName("findByOptionalCategory 메서드")
     class FindByOptionalCategory {
@@ -81,6 +132,106 @@ class LunchMenuServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findSummariesByOptionalCategory 메서드")
+    class FindSummariesByOptionalCategory {
+
+        @Test
+        @DisplayName("카탈로그 모드면 DB 대신 스냅샷의 카테고리 인덱스에서 조회한다")
+        void returnsSummariesFromCatalogIndex() {
+            // given
+            LunchMenu kimchi = createMenu("김치찌개");
+            LunchMenu jjajang = LunchMenu.builder().name("짜장면").category(Category.CHINESE).weight(1).build();
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(kimchi, jjajang)));
+
+            // when
+            List<MenuSummary> all = lunchMenuService.findSummariesByOptionalCategory(null);
+            List<MenuSummary> chinese = lunchMenuService.findSummariesByOptionalCategory(Category.CHINESE);
+
+            // then
+            assertThat(all).hasSize(2);
+            assertThat(chinese).extracting(MenuSummary::getName).containsExactly("짜장면");
+            then(lunchMenuRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("DATABASE 모드에서 카테고리가 null이면 전체 프로젝션을 조회한다")
+        void returnsAllSummariesWhenCategoryIsNull() {
+            // given
+            given(recommendationProperties.getSamplingMode()).willReturn(SamplingMode.DATABASE);
+            given(lunchMenuRepository.findAllSummaries()).willReturn(List.of(
+                    new MenuSummary(1L, "김치찌개", null, Category.KOREAN, 2, 3, LocalDateTime.now())));
+
+            // when
+            List<MenuSummary> result = lunchMenuService.findSummariesByOptionalCategory(null);
+
+            // then
+            assertThat(result).extracting(MenuSummary::getName).containsExactly("김치찌개");
+            then(lunchMenuRepository).should(never()).findAllByOrderByCreatedAtDesc();
+        }
+
+        @Test
+        @DisplayName("DATABASE 모드에서 카테고리가 있으면 해당 카테고리 프로젝션만 조회한다")
+        void returnsSummariesByCategoryWhenCategoryIsPresent() {
+            // given
+            given(recommendationProperties.getSamplingMode()).willReturn(SamplingMode.DATABASE);
+            given(lunchMenuRepository.findSummariesByCategory(Category.CHINESE)).willReturn(List.of(
+                    new MenuSummary(2L, "짜장면", null, Category.CHINESE, 0, 4, LocalDateTime.now())));
+
+            // when
+            List<MenuSummary> result = lunchMenuService.findSummariesByOptionalCategory(Category.CHINESE);
+
+            // then
+            assertThat(result).hasSize(1);
+            then(lunchMenuRepository).should(never()).findAllSummaries();
+        }
+    }
+
+    @Nested
+    @DisplayName("findSummarySlice 메서드")
+    class FindSummarySlice {
+
+        @Test
+        @DisplayName("커서가 없으면 첫 페이지를 조회한다")
+        void returnsFirstPageWhenCursorIsNull() {
+            // given
+            given(lunchMenuRepository.findSummarySlice(any(Pageable.class))).willReturn(new SliceImpl<>(List.of()));
+
+            // when
+            lunchMenuService.findSummarySlice(null, null, null, 10);
+
+            // then
+            then(lunchMenuRepository).should().findSummarySlice(Pageable.ofSize(10));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 이후 페이지를 조회한다")
+        void returnsPageAfterCursor() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+            given(lunchMenuRepository.findSummarySliceByCategoryAfter(
+                    any(Category.class), any(LocalDateTime.class), any(Long.class), any(Pageable.class)))
+                    .willReturn(new SliceImpl<>(List.of()));
+
+            // when
+            lunchMenuService.findSummarySlice(Category.KOREAN, createdAt, 5L, 20);
+
+            // then
+            then(lunchMenuRepository).should()
+                    .findSummarySliceByCategoryAfter(Category.KOREAN, createdAt, 5L, Pageable.ofSize(20));
+        }
+
+        @Test
+        @DisplayName("limit이 허용 범위를 벗어나면 예외가 발생한다")
+        void throwsExceptionWhenLimitOutOfRange() {
+            assertThatThrownBy(() -> lunchMenuService.findSummarySlice(null, null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> lunchMenuService.findSummarySlice(null, null, null,
+                    LunchMenuService.MAX_PAGE_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getById 메서드")
     class GetById {
@@ -112,6 +263,36 @@ class LunchMenuServiceTest {
                     .isInstanceOf(MenuNotFoundException.class)
                     .hasMessageContaining("999");
         }
+
+        @Test
+        @DisplayName("write-behind 대기 중인 메뉴는 DB 대신 대기 중인 변경을 반환한다")
+        void returnsPendingMenuWhenQueued() {
+            // given
+            Long menuId = 1L;
+            LunchMenu pendingMenu = createMenuWithVersion("수정 대기 메뉴", 2L);
+            given(menuWriteBehind.findPending(menuId))
+                    .willReturn(Optional.of(new PendingMenuMutation(menuId, pendingMenu, 1L, 1)));
+
+            // when
+            LunchMenu result = lunchMenuService.getById(menuId);
+
+            // then
+            assertThat(result.getName()).isEqualTo("수정 대기 메뉴");
+            then(lunchMenuRepository).should(never()).findById(menuId);
+        }
+
+        @Test
+        @DisplayName("write-behind 삭제 대기 중인 메뉴를 조회하면 예외를 던진다")
+        void throwsExceptionWhenDeletionQueued() {
+            // given
+            Long menuId = 1L;
+            given(menuWriteBehind.findPending(menuId))
+                    .willReturn(Optional.of(new PendingMenuMutation(menuId, null, 1L, 1)));
+
+            // when & then
+            assertThatThrownBy(() -> lunchMenuService.getById(menuId))
+                    .isInstanceOf(MenuNotFoundException.class);
+        }
     }
 
     @Nested
@@ -138,6 +319,7 @@ class LunchMenuServiceTest {
             // then
             assertThat(result.getName()).isEqualTo("새 메뉴");
             then(lunchMenuRepository).should().save(any(LunchMenu.class));
+            then(menuCatalog).should().invalidate();
         }
     }
 
@@ -146,18 +328,18 @@ class LunchMenuServiceTest {
     class Update {
 
         @Test
-        @DisplayName("버전이 일치하면 메뉴를 수정한다")
+        @DisplayName("버전과 가중치가 그대로면 메뉴를 읽지 않고 조건부 UPDATE 한 번으로 수정한다")
         void updatesMenuWhenVersionMatches() {
             // given
             Long menuId = 1L;
-            LunchMenu existingMenu = createMenuWithVersion("기존 메뉴", 1L);
-            given(lunchMenuRepository.findById(menuId)).willReturn(Optional.of(existingMenu));
+            given(lunchMenuRepository.updateIfVersionKeepingWeight(eq(menuId), eq(1L), eq("수정된 메뉴"), any(),
+                    eq(Category.CHINESE), eq(2), eq(1), any())).willReturn(1);
 
             LunchMenuForm form = LunchMenuForm.builder()
                     .name("수정된 메뉴")
                     .category(Category.CHINESE)
                     .spicyLevel(2)
-                    .weight(3)
+                    .weight(1)
                     .version(1L)
                     .build();
 
@@ -165,40 +347,105 @@ class LunchMenuServiceTest {
             LunchMenu result = lunchMenuService.update(menuId, form);
 
             // then
+            assertThat(result.getId()).isEqualTo(menuId);
             assertThat(result.getName()).isEqualTo("수정된 메뉴");
             assertThat(result.getCategory()).isEqualTo(Category.CHINESE);
+            assertThat(result.getVersion()).isEqualTo(2L);
+            then(lunchMenuRepository).should(never()).findById(menuId);
+            then(menuCatalog).should(never()).getSnapshot();
+            then(databaseMenuSampler).should(never()).allocateWeightStart(anyLong());
+            then(lunchMenuRepository).should(never()).updateIfVersionWithWeight(
+                    any(), any(), any(), any(), any(), anyInt(), anyInt(), anyLong(), any());
+            then(menuCatalog).should().invalidate();
         }
 
         @Test
-        @DisplayName("버전이 불일치하면 동시성 예외를 던진다")
+        @DisplayName("가중치가 바뀌어 첫 UPDATE가 0건이면 구간을 새로 할당해 다시 수정한다")
+        void reassignsWeightIntervalWhenWeightChanges() {
+            // given
+            Long menuId = 1L;
+            given(lunchMenuRepository.updateIfVersionKeepingWeight(eq(menuId), eq(1L), any(), any(), any(),
+                    anyInt(), eq(4), any())).willReturn(0);
+            given(databaseMenuSampler.allocateWeightStart(4)).willReturn(42L);
+            given(lunchMenuRepository.updateIfVersionWithWeight(eq(menuId), eq(1L), eq("기존 메뉴"), any(),
+                    eq(Category.KOREAN), eq(0), eq(4), eq(42L), any())).willReturn(1);
+
+            LunchMenuForm form = LunchMenuForm.builder()
+                    .name("기존 메뉴")
+                    .category(Category.KOREAN)
+                    .weight(4)
+                    .version(1L)
+                    .build();
+
+            // when
+            LunchMenu result = lunchMenuService.update(menuId, form);
+
+            // then
+            assertThat(result.getWeight()).isEqualTo(4);
+            assertThat(result.getVersion()).isEqualTo(2L);
+            then(databaseMenuSampler).should().compactIfNeeded();
+            then(menuCatalog).should().invalidate();
+        }
+
+        @Test
+        @DisplayName("버전이 불일치해 두 조건부 UPDATE가 모두 0건이면 동시성 예외를 던진다")
         void throwsConcurrencyExceptionWhenVersionMismatch() {
             // given
             Long menuId = 1L;
-            LunchMenu existingMenu = createMenuWithVersion("기존 메뉴", 2L);
-            given(lunchMenuRepository.findById(menuId)).willReturn(Optional.of(existingMenu));
+            given(lunchMenuRepository.updateIfVersionKeepingWeight(eq(menuId), eq(1L), any(), any(), any(),
+                    anyInt(), anyInt(), any())).willReturn(0);
+            given(lunchMenuRepository.updateIfVersionWithWeight(eq(menuId), eq(1L), any(), any(), any(),
+                    anyInt(), anyInt(), anyLong(), any())).willReturn(0);
+            given(lunchMenuRepository.existsById(menuId)).willReturn(true);
 
             LunchMenuForm form = LunchMenuForm.builder()
                     .name("수정된 메뉴")
                     .category(Category.CHINESE)
-                    .version(1L)  // 다른 버전
+                    .weight(1)
+                    .version(1L)  // 다른 곳에서 이미 수정된 버전
                     .build();
 
             // when & then
             assertThatThrownBy(() -> lunchMenuService.update(menuId, form))
                     .isInstanceOf(MenuConcurrentModificationException.class);
+            then(databaseMenuSampler).should(never()).compactIfNeeded();
+            then(menuCatalog).should(never()).invalidate();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 메뉴를 수정하면 예외를 던진다")
+        void throwsNotFoundExceptionWhenMenuNotExists() {
+            // given
+            Long menuId = 999L;
+            given(lunchMenuRepository.existsById(menuId)).willReturn(false);
+
+            LunchMenuForm form = LunchMenuForm.builder()
+                    .name("수정된 메뉴")
+                    .category(Category.CHINESE)
+                    .version(1L)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> lunchMenuService.update(menuId, form))
+                    .isInstanceOf(MenuNotFoundException.class)
+                    .hasMessageContaining("999");
+            then(menuCatalog).should(never()).invalidate();
         }
 
         @Test
-        @DisplayName("폼의 버전이 null이면 버전 체크를 건너뛴다")
-        void skipsVersionCheckWhenFormVersionIsNull() {
+        @DisplayName("폼의 버전이 null이면 현재 버전만 조회해 기준으로 수정한다")
+        void usesCurrentVersionWhenFormVersionIsNull() {
             // given
             Long menuId = 1L;
-            LunchMenu existingMenu = createMenuWithVersion("기존 메뉴", 5L);
-            given(lunchMenuRepository.findById(menuId)).willReturn(Optional.of(existingMenu));
+            given(lunchMenuRepository.findVersionById(menuId))
+                    .willReturn(Optional.of(MenuVersion.of(5L, LocalDateTime.now())));
+            given(lunchMenuRepository.updateIfVersionKeepingWeight(eq(menuId), eq(5L), eq("수정된 메뉴"), any(),
+                    eq(Category.KOREAN), eq(0), eq(1), any())).willReturn(1);
 
             LunchMenuForm form = LunchMenuForm.builder()
                     .name("수정된 메뉴")
                     .category(Category.KOREAN)
+                    .weight(1)
                     .version(null)  // API 호출 등에서 버전 미전달
                     .build();
 
@@ -207,6 +454,56 @@ class LunchMenuServiceTest {
 
             // then
             assertThat(result.getName()).isEqualTo("수정된 메뉴");
+            assertThat(result.getVersion()).isEqualTo(6L);
+            then(lunchMenuRepository).should(never()).findById(menuId);
+        }
+
+        @Test
+        @DisplayName("write-behind 모드에서는 대기열에 넣은 결과를 반환하고 DB를 수정하지 않는다")
+        void enqueuesUpdateWhenWriteBehindEnabled() {
+            // given
+            Long menuId = 1L;
+            LunchMenuForm form = LunchMenuForm.builder()
+                    .name("수정된 메뉴")
+                    .category(Category.KOREAN)
+                    .version(1L)
+                    .build();
+            LunchMenu queued = createMenuWithVersion("수정된 메뉴", 2L);
+            given(menuWriteBehind.isEnabled()).willReturn(true);
+            given(menuWriteBehind.enqueueUpdate(eq(menuId), eq(form), any())).willReturn(Optional.of(queued));
+
+            // when
+            LunchMenu result = lunchMenuService.update(menuId, form);
+
+            // then
+            assertThat(result).isSameAs(queued);
+            then(lunchMenuRepository).should(never()).findById(menuId);
+            then(menuCatalog).should(never()).invalidate();
+        }
+
+        @Test
+        @DisplayName("write-behind 대기열이 가득 차면 동기로 수정한다")
+        void updatesSynchronouslyWhenQueueIsFull() {
+            // given
+            Long menuId = 1L;
+            LunchMenuForm form = LunchMenuForm.builder()
+                    .name("수정된 메뉴")
+                    .category(Category.KOREAN)
+                    .weight(1)
+                    .version(1L)
+                    .build();
+            given(menuWriteBehind.isEnabled()).willReturn(true);
+            given(menuWriteBehind.enqueueUpdate(eq(menuId), eq(form), any())).willReturn(Optional.empty());
+            given(lunchMenuRepository.updateIfVersionKeepingWeight(eq(menuId), eq(1L), any(), any(), any(),
+                    anyInt(), eq(1), any())).willReturn(1);
+
+            // when
+            LunchMenu result = lunchMenuService.update(menuId, form);
+
+            // then
+            assertThat(result.getName()).isEqualTo("수정된 메뉴");
+            assertThat(result.getVersion()).isEqualTo(2L);
+            then(menuCatalog).should().invalidate();
         }
     }
 
@@ -219,13 +516,14 @@ class LunchMenuServiceTest {
         void deletesExistingMenu() {
             // given
             Long menuId = 1L;
-            given(lunchMenuRepository.existsById(menuId)).willReturn(true);
+            given(lunchMenuRepository.deleteMenuById(menuId)).willReturn(1);
 
             // when
             lunchMenuService.delete(menuId);
 
             // then
-            then(lunchMenuRepository).should().deleteById(menuId);
+            then(lunchMenuRepository).should(never()).existsById(menuId);
+            then(menuCatalog).should().invalidate();
         }
 
         @Test
@@ -233,12 +531,28 @@ class LunchMenuServiceTest {
         void throwsExceptionWhenMenuNotExists() {
             // given
             Long menuId = 999L;
-            given(lunchMenuRepository.existsById(menuId)).willReturn(false);
+            given(lunchMenuRepository.deleteMenuById(menuId)).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> lunchMenuService.delete(menuId))
                     .isInstanceOf(MenuNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("write-behind 모드에서는 대기열에 넣고 DB에서 바로 삭제하지 않는다")
+        void enqueuesDeleteWhenWriteBehindEnabled() {
+            // given
+            Long menuId = 1L;
+            given(menuWriteBehind.isEnabled()).willReturn(true);
+            given(menuWriteBehind.enqueueDelete(eq(menuId), any())).willReturn(true);
+
+            // when
+            lunchMenuService.delete(menuId);
+
+            // then
+            then(lunchMenuRepository).should(never()).deleteMenuById(menuId);
+            then(menuCatalog).should(never()).invalidate();
+        }
     }
 
     @Nested
@@ -250,15 +564,15 @@ class LunchMenuServiceTest {
         void recommendRandomUsesSimpleStrategy() {
             // given
             LunchMenu menu = createMenu("김치찌개");
-            given(lunchMenuRepository.findAll()).willReturn(List.of(menu));
-            given(simpleRandomStrategy.recommend(any(), any())).willReturn(Optional.of(menu));
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(menu)));
+            given(simpleRandomStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.of(menu));
 
             // when
             Optional<LunchMenu> result = lunchMenuService.recommendRandom();
 
             // then
             assertThat(result).isPresent();
-            then(simpleRandomStrategy).should().recommend(any(), any());
+            then(simpleRandomStrategy).should().recommend(any(MenuSnapshot.class), any());
         }
 
         @Test
@@ -267,15 +581,187 @@ class LunchMenuServiceTest {
             // given
             LunchMenu menu = createMenu("김치찌개");
             Set<Long> excludeIds = Set.of(1L);
-            given(lunchMenuRepository.findAll()).willReturn(List.of(menu));
-            given(weightedRandomStrategy.recommend(any(), any())).willReturn(Optional.of(menu));
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(menu)));
+            given(weightedRandomStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.of(menu));
 
             // when
             Optional<LunchMenu> result = lunchMenuService.recommendWeightedRandomExcluding(excludeIds);
 
             // then
             assertThat(result).isPresent();
-            then(weightedRandomStrategy).should().recommend(any(), any());
+            then(weightedRandomStrategy).should().recommend(any(MenuSnapshot.class), any());
+        }
+
+        @Test
+        @DisplayName("전략별 추천 시간과 빈 결과 횟수를 기록한다")
+        void recordsLatencyAndEmptyResultsPerStrategy() {
+            // given
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of()));
+            given(weightedRandomStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.empty());
+            given(recommendationProperties.getSamplingMode())
+                    .willReturn(SamplingMode.CATALOG, SamplingMode.CATALOG, SamplingMode.DATABASE);
+            given(databaseMenuSampler.sampleWeighted(any())).willReturn(Optional.of(createMenu("김치찌개")));
+
+            // when
+            lunchMenuService.recommendWeightedRandomExcluding(Set.of());
+            lunchMenuService.recommendWeightedRandomExcluding(Set.of());
+            lunchMenuService.recommendWeightedRandomExcluding(Set.of());
+
+            // then
+            assertThat(meterRegistry.get(RecommendationMetrics.LATENCY).tag("strategy", "WEIGHTED_RANDOM")
+                    .timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get(RecommendationMetrics.EMPTY).tag("strategy", "WEIGHTED_RANDOM")
+                    .counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get(RecommendationMetrics.LATENCY).tag("strategy", "DATABASE_WEIGHTED")
+                    .timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(RecommendationMetrics.EMPTY).tag("strategy", "DATABASE_WEIGHTED")
+                    .counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("추천은 DB 대신 카탈로그 스냅샷을 사용한다")
+        void recommendReadsFromCatalogSnapshot() {
+            // given
+            LunchMenu menu = createMenu("김치찌개");
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(menu)));
+            given(simpleRandomStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.of(menu));
+
+            // when
+            lunchMenuService.recommendRandom();
+
+            // then
+            then(lunchMenuRepository).should(never()).findAll();
+        }
+
+        @Test
+        @DisplayName("DATABASE 샘플링 모드면 카탈로그 대신 DB에서 한 행을 샘플링한다")
+        void recommendUsesDatabaseSamplerInDatabaseMode() {
+            // given
+            LunchMenu menu = createMenu("김치찌개");
+            Set<Long> excludeIds = Set.of(1L);
+            given(recommendationProperties.getSamplingMode()).willReturn(SamplingMode.DATABASE);
+            given(databaseMenuSampler.sampleWeighted(excludeIds)).willReturn(Optional.of(menu));
+
+            // when
+            Optional<LunchMenu> result = lunchMenuService.recommendWeightedRandomExcluding(excludeIds);
+
+            // then
+            assertThat(result).contains(menu);
+            then(menuCatalog).should(never()).getSnapshot();
+        }
+
+        @Test
+        @DisplayName("count를 지정하면 카탈로그 스냅샷에서 서로 다른 메뉴를 뽑는다")
+        void recommendWithCountReturnsDistinctMenus() {
+            // given
+            List<LunchMenu> menus = List.of(createMenu("김치찌개"), createMenu("짜장면"), createMenu("초밥"));
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, menus));
+
+            // when
+            List<LunchMenu> result = lunchMenuService.recommendWeightedRandomExcluding(Set.of(), 2);
+
+            // then
+            assertThat(result).hasSize(2).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("DATABASE 샘플링 모드에서 count를 지정하면 DB 샘플러에 위임한다")
+        void recommendWithCountUsesDatabaseSamplerInDatabaseMode() {
+            // given
+            List<LunchMenu> menus = List.of(createMenu("김치찌개"), createMenu("짜장면"));
+            Set<Long> excludeIds = Set.of(1L);
+            given(recommendationProperties.getSamplingMode()).willReturn(SamplingMode.DATABASE);
+            given(databaseMenuSampler.sampleWeighted(excludeIds, 2)).willReturn(menus);
+
+            // when
+            List<LunchMenu> result = lunchMenuService.recommendWeightedRandomExcluding(excludeIds, 2);
+
+            // then
+            assertThat(result).isEqualTo(menus);
+            then(menuCatalog).should(never()).getSnapshot();
+        }
+
+        @Test
+        @DisplayName("count가 허용 범위를 벗어나면 예외가 발생한다")
+        void recommendWithCountOutOfRangeThrowsException() {
+            assertThatThrownBy(() -> lunchMenuService.recommendWeightedRandomExcluding(Set.of(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> lunchMenuService.recommendWeightedRandomExcluding(Set.of(),
+                    LunchMenuService.MAX_RECOMMEND_COUNT + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("recommendExcluding은 레지스트리에서 이름으로 찾은 전략을 사용한다")
+        void recommendExcludingUsesStrategyFromRegistry() {
+            // given
+            LunchMenu menu = createMenu("김치찌개");
+            AliasMethodStrategy aliasMethodStrategy = mock(AliasMethodStrategy.class);
+            given(strategyRegistry.get("ALIAS_METHOD")).willReturn(aliasMethodStrategy);
+            given(aliasMethodStrategy.getStrategyName()).willReturn("ALIAS_METHOD");
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(menu)));
+            given(aliasMethodStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.of(menu));
+
+            // when
+            Optional<LunchMenu> result = lunchMenuService.recommendExcluding("ALIAS_METHOD", Set.of());
+
+            // then
+            assertThat(result).isPresent();
+            then(aliasMethodStrategy).should().recommend(any(MenuSnapshot.class), any());
+        }
+
+        @Test
+        @DisplayName("카테고리를 지정하면 해당 카테고리 메뉴만 담긴 스냅샷으로 추천한다")
+        void recommendWithCategoriesUsesScopedSnapshot() {
+            // given
+            LunchMenu kimchi = createMenu("김치찌개");
+            LunchMenu jjajang = LunchMenu.builder().name("짜장면").category(Category.CHINESE).weight(1).build();
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(kimchi, jjajang)));
+            given(weightedRandomStrategy.recommend(any(MenuSnapshot.class), any())).willReturn(Optional.of(jjajang));
+
+            // when
+            Optional<LunchMenu> result = lunchMenuService.recommendExcluding(null,
+                    MenuFilter.ofCategories(Set.of(Category.CHINESE)), Set.of());
+
+            // then
+            assertThat(result).contains(jjajang);
+            ArgumentCaptor<MenuSnapshot> captor = ArgumentCaptor.forClass(MenuSnapshot.class);
+            then(weightedRandomStrategy).should().recommend(captor.capture(), any());
+            assertThat(captor.getValue().getMenus()).containsExactly(jjajang);
+        }
+
+        @Test
+        @DisplayName("카테고리와 count를 지정하면 해당 카테고리에서만 서로 다른 메뉴를 뽑는다")
+        void recommendWithCategoriesAndCountStaysInScope() {
+            // given
+            List<LunchMenu> menus = List.of(createMenu("김치찌개"), createMenu("된장찌개"),
+                    LunchMenu.builder().name("짜장면").category(Category.CHINESE).weight(1).build());
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, menus));
+
+            // when
+            List<LunchMenu> result = lunchMenuService.recommendWeightedRandomExcluding(
+                    MenuFilter.ofCategories(Set.of(Category.KOREAN)), Set.of(), 5);
+
+            // then
+            assertThat(result).hasSize(2).allMatch(menu -> menu.getCategory() == Category.KOREAN);
+        }
+
+        @Test
+        @DisplayName("속성 조건을 지정하면 전략에 필터를 넘겨 추천한다")
+        void recommendWithAttributeFilterPassesFilterToStrategy() {
+            // given
+            LunchMenu menu = createMenu("김치찌개");
+            MenuFilter filter = MenuFilter.builder().maxSpicyLevel(1).build();
+            given(menuCatalog.getSnapshot()).willReturn(MenuSnapshot.of(1L, List.of(menu)));
+            given(weightedRandomStrategy.recommend(any(MenuSnapshot.class), any(MenuFilter.class), any()))
+                    .willReturn(Optional.of(menu));
+
+            // when
+            Optional<LunchMenu> result = lunchMenuService.recommendExcluding(null, filter, Set.of());
+
+            // then
+            assertThat(result).contains(menu);
+            then(weightedRandomStrategy).should().recommend(any(MenuSnapshot.class), any(MenuFilter.class), any());
         }
     }
 
@@ -0,0 +1,117 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가중치 구간은 DB 샘플링 모드에서만 할당하므로 해당 모드로 실행
+@SpringBootTest(properties = {
+        "lunch.bulk-import.chunk-size=2",
+        "lunch.recommendation.sampling-mode=DATABASE"
+})
+@Transactional
+@DisplayName("MenuBulkImportService 통합 테스트 (H2)")
+class MenuBulkImportServiceTest {
+
+    @Autowired
+    private MenuBulkImportService menuBulkImportService;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private DatabaseMenuSampler databaseMenuSampler;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+        databaseMenuSampler.compactWeightIntervals();  // 구간 카운터를 0으로 되돌림
+    }
+
+    @Test
+    @DisplayName("여러 청크에 걸쳐 모든 행을 저장한다")
+    void importsAllRowsAcrossChunks() {
+        // given
+        List<LunchMenuForm> forms = List.of(
+                form("김치찌개", Category.KOREAN, 3),
+                form("짜장면", Category.CHINESE, 4),
+                form("초밥", Category.JAPANESE, 2),
+                form("파스타", Category.WESTERN, 1),
+                form("치킨", Category.FASTFOOD, 5));
+
+        // when
+        BulkImportResult result = menuBulkImportService.importMenus(forms);
+
+        // then
+        assertThat(result.getRequested()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(5);
+        assertThat(result.getFailures()).isEmpty();
+
+        List<LunchMenu> saved = lunchMenuRepository.findAll();
+        assertThat(saved).extracting(LunchMenu::getName)
+                .containsExactlyInAnyOrder("김치찌개", "짜장면", "초밥", "파스타", "치킨");
+        assertThat(saved).allSatisfy(menu -> {
+            assertThat(menu.getCreatedAt()).isNotNull();
+            assertThat(menu.getVersion()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 행은 건너뛰고 행 번호와 함께 보고한다")
+    void reportsInvalidRows() {
+        // given
+        List<LunchMenuForm> forms = List.of(
+                form("김치찌개", Category.KOREAN, 3),
+                form("", Category.KOREAN, 3),
+                form("짜장면", null, 3),
+                form("초밥", Category.JAPANESE, 9));
+
+        // when
+        BulkImportResult result = menuBulkImportService.importMenus(forms);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailures())
+                .extracting(BulkImportResult.RowFailure::getRowNumber)
+                .containsExactly(2, 3, 4);
+        assertThat(lunchMenuRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 행의 가중치 구간이 빈틈없이 이어진다")
+    void assignsContiguousWeightIntervals() {
+        // given
+        List<LunchMenuForm> forms = List.of(
+                form("김치찌개", Category.KOREAN, 3),
+                form("짜장면", Category.CHINESE, 4),
+                form("초밥", Category.JAPANESE, 2));
+        long start = databaseMenuSampler.allocateWeightStart(0);  // 현재 카운터 위치
+
+        // when
+        menuBulkImportService.importMenus(forms);
+
+        // then
+        assertThat(databaseMenuSampler.nextWeightStart()).isEqualTo(start + 9L);
+        assertThat(databaseMenuSampler.allocateWeightStart(0)).isEqualTo(start + 9L);
+    }
+
+    private LunchMenuForm form(String name, Category category, int weight) {
+        return LunchMenuForm.builder()
+                .name(name)
+                .category(category)
+                .spicyLevel(0)
+                .weight(weight)
+                .build();
+    }
+}
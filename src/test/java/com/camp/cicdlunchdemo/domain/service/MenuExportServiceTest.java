@@ -0,0 +1,91 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("MenuExportService 통합 테스트 (H2)")
+class MenuExportServiceTest {
+
+    @Autowired
+    private MenuExportService menuExportService;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("모든 메뉴를 ID 순서대로 내보낸다")
+    void exportsAllMenusInIdOrder() {
+        // given
+        List<LunchMenu> saved = new ArrayList<>();
+        for (int i = 0; i < MenuExportService.CHUNK_SIZE + 10; i++) {
+            saved.add(LunchMenu.builder()
+                    .name("메뉴" + i)
+                    .category(Category.KOREAN)
+                    .weight(1)
+                    .build());
+        }
+        lunchMenuRepository.saveAllAndFlush(saved);
+        entityManager.clear();
+
+        // when
+        List<Long> exportedIds = new ArrayList<>();
+        long count = menuExportService.export(menu -> exportedIds.add(menu.getId()));
+
+        // then
+        assertThat(count).isEqualTo(saved.size());
+        assertThat(exportedIds).isSorted().hasSize(saved.size());
+    }
+
+    @Test
+    @DisplayName("내보낸 엔티티는 청크마다 영속성 컨텍스트에서 분리된다")
+    void detachesEntitiesPerChunk() {
+        // given
+        List<LunchMenu> saved = new ArrayList<>();
+        for (int i = 0; i < MenuExportService.CHUNK_SIZE; i++) {
+            saved.add(LunchMenu.builder()
+                    .name("메뉴" + i)
+                    .category(Category.KOREAN)
+                    .weight(1)
+                    .build());
+        }
+        lunchMenuRepository.saveAllAndFlush(saved);
+        entityManager.clear();
+
+        // when
+        List<LunchMenu> exported = new ArrayList<>();
+        menuExportService.export(exported::add);
+
+        // then
+        assertThat(entityManager.contains(exported.get(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("메뉴가 없으면 0을 반환한다")
+    void returnsZeroWhenNoMenus() {
+        assertThat(menuExportService.export(menu -> {
+        })).isZero();
+    }
+}
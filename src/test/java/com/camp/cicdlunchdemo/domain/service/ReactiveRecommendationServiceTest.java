@@ -0,0 +1,148 @@
+package com.camp.cicdlunchdemo.domain.service;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.domain.service.recommendation.MenuFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRecommendationService 단위 테스트")
+class ReactiveRecommendationServiceTest {
+
+    @Mock
+    private LunchMenuService lunchMenuService;
+
+    @Mock
+    private RecommendationHistoryService historyService;
+
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    private ReactiveRecommendationService reactiveRecommendationService;
+
+    @BeforeEach
+    void setUp() {
+        reactiveRecommendationService = new ReactiveRecommendationService(
+                lunchMenuService, historyService, menuCatalog, new RecommendationProperties());
+    }
+
+    @Test
+    @DisplayName("최근 기록을 제외하고 추천한 뒤 기록에 추가한다")
+    void recommendsAndRecordsHistory() {
+        // given
+        LunchMenu menu = LunchMenu.builder().name("김치찌개").category(Category.KOREAN).weight(1).build();
+        given(menuCatalog.isCurrent()).willReturn(true);
+        given(historyService.getRecentMenuIds("client")).willReturn(Set.of(1L));
+        given(lunchMenuService.recommendWeightedRandomExcluding(Set.of(1L))).willReturn(Optional.of(menu));
+
+        // when & then
+        StepVerifier.create(reactiveRecommendationService.recommend("client", null))
+                .expectNext(menu)
+                .verifyComplete();
+        then(historyService).should().addToHistory("client", menu.getId());
+    }
+
+    @Test
+    @DisplayName("스케줄러는 구독 시점에 고르고 구독한 스레드에서는 계산하지 않는다")
+    void selectsSchedulerOnSubscriptionAndOffloads() {
+        // given
+        AtomicReference<Thread> computedOn = new AtomicReference<>();
+        given(menuCatalog.isCurrent()).willReturn(true);
+        given(historyService.getRecentMenuIds("client")).willAnswer(invocation -> {
+            computedOn.set(Thread.currentThread());
+            return Set.of();
+        });
+        given(lunchMenuService.recommendWeightedRandomExcluding(Set.of())).willReturn(Optional.empty());
+
+        // when
+        Mono<LunchMenu> recommendation = reactiveRecommendationService.recommend("client", null);
+        then(menuCatalog).shouldHaveNoInteractions();
+
+        // then
+        StepVerifier.create(recommendation)
+                .verifyComplete();
+        then(menuCatalog).should().isCurrent();
+        assertThat(computedOn.get()).isNotNull().isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("계산 직전에 스냅샷이 최신이 아니면 재구성을 boundedElastic 스레드에서 수행한다")
+    void rebuildsOnBoundedElasticWhenCatalogIsStale() {
+        // given
+        AtomicReference<Thread> computedOn = new AtomicReference<>();
+        given(menuCatalog.isCurrent()).willReturn(false);
+        given(historyService.getRecentMenuIds("client")).willReturn(Set.of());
+        given(lunchMenuService.recommendWeightedRandomExcluding(Set.of())).willAnswer(invocation -> {
+            computedOn.set(Thread.currentThread());
+            return Optional.empty();
+        });
+
+        // when & then
+        StepVerifier.create(reactiveRecommendationService.recommend("client", null))
+                .verifyComplete();
+        assertThat(computedOn.get().getName()).startsWith("boundedElastic");
+    }
+
+    @Test
+    @DisplayName("필터 조건을 지정하면 조건을 만족하는 메뉴 중에서 추천한다")
+    void recommendsWithFilter() {
+        // given
+        LunchMenu menu = LunchMenu.builder().name("김치찌개").category(Category.KOREAN).weight(1).build();
+        MenuFilter filter = MenuFilter.ofCategories(Set.of(Category.KOREAN));
+        given(menuCatalog.isCurrent()).willReturn(true);
+        given(historyService.getRecentMenuIds("client")).willReturn(Set.of());
+        given(lunchMenuService.recommendExcluding(null, filter, Set.of())).willReturn(Optional.of(menu));
+
+        // when & then
+        StepVerifier.create(reactiveRecommendationService.recommend("client", null, filter))
+                .expectNext(menu)
+                .verifyComplete();
+        then(lunchMenuService).should(never()).recommendWeightedRandomExcluding(any());
+    }
+
+    @Test
+    @DisplayName("추천할 메뉴가 없으면 빈 Mono를 반환하고 기록하지 않는다")
+    void completesEmptyWhenNoMenus() {
+        // given
+        given(historyService.getRecentMenuIds("client")).willReturn(Set.of());
+        given(lunchMenuService.recommendWeightedRandomExcluding(Set.of())).willReturn(Optional.empty());
+
+        // when & then
+        StepVerifier.create(reactiveRecommendationService.recommend("client", null))
+                .verifyComplete();
+        then(historyService).should(never()).addToHistory(any(), any());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 전략이면 에러를 전달한다")
+    void propagatesUnknownStrategyError() {
+        // given
+        given(historyService.getRecentMenuIds("client")).willReturn(Set.of());
+        given(lunchMenuService.recommendExcluding("UNKNOWN", Set.of()))
+                .willThrow(new IllegalArgumentException("지원하지 않는 추천 전략입니다: UNKNOWN"));
+
+        // when & then
+        StepVerifier.create(reactiveRecommendationService.recommend("client", "UNKNOWN"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
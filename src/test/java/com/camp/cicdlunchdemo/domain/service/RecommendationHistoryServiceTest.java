@@ -1,10 +1,11 @@
 package com.camp.cicdlunchdemo.domain.service;
 
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.domain.service.history.InMemoryRecommendationHistoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.mock.web.MockHttpSession;
 
 import java.util.Set;
 
@@ -13,13 +14,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("RecommendationHistoryService 단위 테스트")
 class RecommendationHistoryServiceTest {
 
+    private static final String CLIENT_ID = "client-1";
+
     private RecommendationHistoryService historyService;
-    private MockHttpSession session;
 
     @BeforeEach
     void setUp() {
-        historyService = new RecommendationHistoryService();
-        session = new MockHttpSession();
+        historyService = new RecommendationHistoryService(
+                new InMemoryRecommendationHistoryStore(new RecommendationProperties()));
     }
 
     @Nested
@@ -27,28 +29,42 @@ class RecommendationHistoryServiceTest {
     class GetRecentMenuIds {
 
         @Test
-        @DisplayName("세션에 기록이 없으면 빈 Set을 반환한다")
+        @DisplayName("기록이 없으면 빈 Set을 반환한다")
         void returnsEmptySetWhenNoHistory() {
             // when
-            Set<Long> result = historyService.getRecentMenuIds(session);
+            Set<Long> result = historyService.getRecentMenuIds(CLIENT_ID);
 
             // then
             assertThat(result).isEmpty();
         }
 
         @Test
-        @DisplayName("세션에 기록이 있으면 해당 기록을 반환한다")
+        @DisplayName("기록이 있으면 해당 기록을 반환한다")
         void returnsHistoryWhenExists() {
             // given
-            historyService.addToHistory(session, 1L);
-            historyService.addToHistory(session, 2L);
+            historyService.addToHistory(CLIENT_ID, 1L);
+            historyService.addToHistory(CLIENT_ID, 2L);
 
             // when
-            Set<Long> result = historyService.getRecentMenuIds(session);
+            Set<Long> result = historyService.getRecentMenuIds(CLIENT_ID);
 
             // then
             assertThat(result).containsExactlyInAnyOrder(1L, 2L);
         }
+
+        @Test
+        @DisplayName("다른 클라이언트의 기록은 섞이지 않는다")
+        void isolatesHistoryPerClient() {
+            // given
+            historyService.addToHistory(CLIENT_ID, 1L);
+            historyService.addToHistory("client-2", 2L);
+
+            // when
+            Set<Long> result = historyService.getRecentMenuIds(CLIENT_ID);
+
+            // then
+            assertThat(result).containsExactly(1L);
+        }
     }
 
     @Nested
@@ -59,10 +75,10 @@ class RecommendationHistoryServiceTest {
         @DisplayName("메뉴 ID를 기록에 추가한다")
         void addsMenuIdToHistory() {
             // when
-            historyService.addToHistory(session, 1L);
+            historyService.addToHistory(CLIENT_ID, 1L);
 
             // then
-            Set<Long> history = historyService.getRecentMenuIds(session);
+            Set<Long> history = historyService.getRecentMenuIds(CLIENT_ID);
             assertThat(history).contains(1L);
         }
 
@@ -71,11 +87,11 @@ class RecommendationHistoryServiceTest {
         void maintainsMaxFiveRecords() {
             // when
             for (long i = 1; i <= 7; i++) {
-                historyService.addToHistory(session, i);
+                historyService.addToHistory(CLIENT_ID, i);
             }
 
             // then
-            Set<Long> history = historyService.getRecentMenuIds(session);
+            Set<Long> history = historyService.getRecentMenuIds(CLIENT_ID);
             assertThat(history).hasSize(5);
             assertThat(history).doesNotContain(1L, 2L);  // 가장 오래된 것들이 제거됨
             assertThat(history).contains(3L, 4L, 5L, 6L, 7L);
@@ -85,19 +101,19 @@ class RecommendationHistoryServiceTest {
         @DisplayName("같은 ID를 다시 추가하면 순서가 갱신된다")
         void refreshesOrderWhenSameIdAdded() {
             // given
-            historyService.addToHistory(session, 1L);
-            historyService.addToHistory(session, 2L);
-            historyService.addToHistory(session, 3L);
+            historyService.addToHistory(CLIENT_ID, 1L);
+            historyService.addToHistory(CLIENT_ID, 2L);
+            historyService.addToHistory(CLIENT_ID, 3L);
 
             // when - 1L을 다시 추가
-            historyService.addToHistory(session, 1L);
+            historyService.addToHistory(CLIENT_ID, 1L);
 
             // then - 1L이 가장 최근이 됨
             for (long i = 4; i <= 6; i++) {
-                historyService.addToHistory(session, i);
+                historyService.addToHistory(CLIENT_ID, i);
             }
 
-            Set<Long> history = historyService.getRecentMenuIds(session);
+            Set<Long> history = historyService.getRecentMenuIds(CLIENT_ID);
             assertThat(history).contains(1L);  // 1L은 최근 것이므로 유지
             assertThat(history).doesNotContain(2L);  // 2L이 가장 오래된 것으로 제거됨
         }
@@ -111,24 +127,24 @@ class RecommendationHistoryServiceTest {
         @DisplayName("기록을 모두 삭제한다")
         void clearsAllHistory() {
             // given
-            historyService.addToHistory(session, 1L);
-            historyService.addToHistory(session, 2L);
+            historyService.addToHistory(CLIENT_ID, 1L);
+            historyService.addToHistory(CLIENT_ID, 2L);
 
             // when
-            historyService.clearHistory(session);
+            historyService.clearHistory(CLIENT_ID);
 
             // then
-            Set<Long> history = historyService.getRecentMenuIds(session);
+            Set<Long> history = historyService.getRecentMenuIds(CLIENT_ID);
             assertThat(history).isEmpty();
         }
 
         @Test
-        @DisplayName("빈 세션에서도 에러 없이 동작한다")
-        void worksOnEmptySession() {
+        @DisplayName("기록이 없어도 에러 없이 동작한다")
+        void worksOnEmptyHistory() {
             // when & then - no exception
-            historyService.clearHistory(session);
+            historyService.clearHistory(CLIENT_ID);
 
-            Set<Long> history = historyService.getRecentMenuIds(session);
+            Set<Long> history = historyService.getRecentMenuIds(CLIENT_ID);
             assertThat(history).isEmpty();
         }
     }
@@ -0,0 +1,55 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogFingerprint 단위 테스트")
+class CatalogFingerprintTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("생성/수정/삭제 중 하나라도 일어나면 ETag가 달라진다")
+    void eTagChangesOnEveryKindOfChange() {
+        // given
+        LunchMenu first = createMenu(1L, 0L, BASE);
+        LunchMenu second = createMenu(2L, 0L, BASE);
+        String original = fingerprintOf(first, second).toETag();
+
+        // when & then
+        assertThat(fingerprintOf(first, second, createMenu(3L, 0L, BASE)).toETag()).isNotEqualTo(original);
+        assertThat(fingerprintOf(first, createMenu(2L, 1L, BASE)).toETag()).isNotEqualTo(original);
+        assertThat(fingerprintOf(second).toETag()).isNotEqualTo(original);
+        assertThat(fingerprintOf(first, second).toETag()).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("빈 카탈로그의 ETag는 0-0-0이다")
+    void emptyCatalogETag() {
+        assertThat(fingerprintOf().toETag()).isEqualTo("0-0-0");
+    }
+
+    private static CatalogFingerprint fingerprintOf(LunchMenu... menus) {
+        return CatalogFingerprint.of(MenuSnapshot.of(1L, List.of(menus)));
+    }
+
+    private static LunchMenu createMenu(Long id, Long version, LocalDateTime updatedAt) {
+        LunchMenu menu = LunchMenu.builder()
+                .name("메뉴" + id)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        ReflectionTestUtils.setField(menu, "version", version);
+        ReflectionTestUtils.setField(menu, "updatedAt", updatedAt);
+        return menu;
+    }
+}
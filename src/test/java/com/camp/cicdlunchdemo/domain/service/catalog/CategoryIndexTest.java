@@ -0,0 +1,103 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.MenuSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryIndex 단위 테스트")
+class CategoryIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final LunchMenu kimchi = createMenu(1L, "김치찌개", Category.KOREAN, BASE);
+    private final LunchMenu jjajang = createMenu(2L, "짜장면", Category.CHINESE, BASE.plusHours(1));
+    private final LunchMenu bulgogi = createMenu(3L, "불고기", Category.KOREAN, BASE.plusHours(2));
+    private final LunchMenu sushi = createMenu(4L, "초밥", Category.JAPANESE, BASE.plusHours(1));
+
+    private final MenuSnapshot snapshot = MenuSnapshot.of(1L, List.of(kimchi, jjajang, bulgogi, sushi));
+
+    @Test
+    @DisplayName("같은 스냅샷에서는 인덱스를 한 번만 생성한다")
+    void memoizesPerSnapshot() {
+        assertThat(CategoryIndex.of(snapshot)).isSameAs(CategoryIndex.of(snapshot));
+    }
+
+    @Nested
+    @DisplayName("요약 목록")
+    class Summaries {
+
+        @Test
+        @DisplayName("전체 요약은 생성일 내림차순, 같으면 ID 내림차순으로 정렬된다")
+        void recentSummariesAreOrderedByCreatedAtThenId() {
+            // when
+            List<MenuSummary> result = CategoryIndex.of(snapshot).recentSummaries();
+
+            // then
+            assertThat(result).extracting(MenuSummary::getId).containsExactly(3L, 4L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("카테고리 요약은 해당 카테고리 메뉴만 최신순으로 담고, 메뉴가 없으면 빈 목록이다")
+        void summariesOfCategory() {
+            // given
+            CategoryIndex index = CategoryIndex.of(snapshot);
+
+            // when & then
+            assertThat(index.summariesOf(Category.KOREAN)).extracting(MenuSummary::getName)
+                    .containsExactly("불고기", "김치찌개");
+            assertThat(index.summariesOf(Category.WESTERN)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshotOf 메서드")
+    class SnapshotOf {
+
+        @Test
+        @DisplayName("단일 카테고리 하위 스냅샷은 원본 버전을 유지하고 해당 카테고리 메뉴만 담는다")
+        void singleCategory() {
+            // when
+            MenuSnapshot korean = CategoryIndex.of(snapshot).snapshotOf(Set.of(Category.KOREAN));
+
+            // then
+            assertThat(korean.getVersion()).isEqualTo(snapshot.getVersion());
+            assertThat(korean.getMenus()).containsExactly(bulgogi, kimchi);
+        }
+
+        @Test
+        @DisplayName("여러 카테고리 조합은 합쳐서 캐시하고 같은 조합이면 같은 스냅샷을 반환한다")
+        void combinationIsCached() {
+            // given
+            CategoryIndex index = CategoryIndex.of(snapshot);
+
+            // when
+            MenuSnapshot first = index.snapshotOf(Set.of(Category.CHINESE, Category.JAPANESE));
+            MenuSnapshot second = index.snapshotOf(Set.of(Category.JAPANESE, Category.CHINESE));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(first.getMenus()).containsExactly(sushi, jjajang);
+        }
+    }
+
+    private static LunchMenu createMenu(Long id, String name, Category category, LocalDateTime createdAt) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(category)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        ReflectionTestUtils.setField(menu, "createdAt", createdAt);
+        return menu;
+    }
+}
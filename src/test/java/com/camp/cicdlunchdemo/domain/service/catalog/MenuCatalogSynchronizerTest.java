@@ -0,0 +1,94 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuCacheEvictor;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.repository.MenuListVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCatalogSynchronizer 단위 테스트")
+class MenuCatalogSynchronizerTest {
+
+    @Mock
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    @Mock
+    private LunchMenuCacheEvictor cacheEvictor;
+
+    @InjectMocks
+    private MenuCatalogSynchronizer synchronizer;
+
+    @Test
+    @DisplayName("목록 지문이 그대로면 무효화하지 않는다")
+    void keepsCatalogWhenFingerprintIsUnchanged() {
+        // given
+        given(lunchMenuRepository.findListVersion()).willReturn(listVersion(2, 2, 0), listVersion(2, 2, 0));
+
+        // when
+        synchronizer.sync();
+        synchronizer.sync();
+
+        // then
+        then(menuCatalog).should(never()).invalidate();
+        then(cacheEvictor).should(never()).evictAll();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 수정으로 목록 지문이 바뀌면 카탈로그와 2차 캐시를 무효화한다")
+    void invalidatesWhenFingerprintChanges() {
+        // given
+        given(lunchMenuRepository.findListVersion()).willReturn(listVersion(2, 2, 0), listVersion(2, 2, 1));
+
+        // when
+        synchronizer.sync();
+        synchronizer.sync();
+
+        // then
+        then(menuCatalog).should().invalidate();
+        then(cacheEvictor).should().evictAll();
+    }
+
+    @Test
+    @DisplayName("첫 확인은 기준만 기록하고 무효화하지 않는다")
+    void firstSyncOnlyRecordsBaseline() {
+        // given
+        given(lunchMenuRepository.findListVersion()).willReturn(listVersion(1, 1, 0));
+
+        // when
+        synchronizer.sync();
+
+        // then
+        then(menuCatalog).should(never()).invalidate();
+    }
+
+    private static MenuListVersion listVersion(long count, long maxId, long versionSum) {
+        return new MenuListVersion() {
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+
+            @Override
+            public Long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.camp.cicdlunchdemo.domain.service.catalog;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCatalog 단위 테스트")
+class MenuCatalogTest {
+
+    @Mock
+    private LunchMenuRepository lunchMenuRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MenuCatalog menuCatalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        menuCatalog = new MenuCatalog(lunchMenuRepository, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("getSnapshot 메서드")
+    class GetSnapshot {
+
+        @Test
+        @DisplayName("변경이 없으면 같은 스냅샷을 재사용하고 DB는 한 번만 조회한다")
+        void reusesSnapshotUntilInvalidated() {
+            // given
+            given(lunchMenuRepository.findAll()).willReturn(List.of(createMenu("김치찌개")));
+
+            // when
+            MenuSnapshot first = menuCatalog.getSnapshot();
+            MenuSnapshot second = menuCatalog.getSnapshot();
+
+            // then
+            assertThat(second).isSameAs(first);
+            then(lunchMenuRepository).should(times(1)).findAll();
+            assertThat(meterRegistry.counter("lunch.catalog.rebuilds").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.counter("lunch.catalog.hits").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("무효화되면 다음 조회 시 새 버전으로 재구성한다")
+        void rebuildsAfterInvalidate() {
+            // given
+            given(lunchMenuRepository.findAll())
+                    .willReturn(List.of(createMenu("김치찌개")))
+                    .willReturn(List.of(createMenu("김치찌개"), createMenu("짜장면")));
+            MenuSnapshot before = menuCatalog.getSnapshot();
+
+            // when
+            menuCatalog.invalidate();
+            MenuSnapshot after = menuCatalog.getSnapshot();
+
+            // then
+            assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+            assertThat(after.getMenus()).hasSize(2);
+            assertThat(meterRegistry.counter("lunch.catalog.rebuilds").count()).isEqualTo(2.0);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷의 메뉴 목록은 변경할 수 없다")
+    void snapshotIsImmutable() {
+        // given
+        given(lunchMenuRepository.findAll()).willReturn(List.of(createMenu("김치찌개")));
+
+        // when
+        MenuSnapshot snapshot = menuCatalog.getSnapshot();
+
+        // then
+        assertThatThrownBy(() -> snapshot.getMenus().add(createMenu("짜장면")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private LunchMenu createMenu(String name) {
+        return LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build();
+    }
+}
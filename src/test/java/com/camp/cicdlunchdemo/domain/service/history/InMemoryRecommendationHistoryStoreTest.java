@@ -0,0 +1,97 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryRecommendationHistoryStore 단위 테스트")
+class InMemoryRecommendationHistoryStoreTest {
+
+    @Test
+    @DisplayName("TTL이 지난 기록은 조회되지 않는다")
+    void expiresHistoryAfterTtl() {
+        // given
+        InMemoryRecommendationHistoryStore store = new InMemoryRecommendationHistoryStore(propertiesWithTtl(Duration.ZERO));
+        store.append("client", 1L);
+
+        // when & then
+        assertThat(store.findRecentMenuIds("client")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("purgeExpired는 만료된 기록만 정리한다")
+    void purgesOnlyExpiredEntries() {
+        // given
+        InMemoryRecommendationHistoryStore store = new InMemoryRecommendationHistoryStore(propertiesWithTtl(Duration.ofHours(1)));
+        store.append("client", 1L);
+
+        // when
+        store.purgeExpired();
+
+        // then
+        assertThat(store.findRecentMenuIds("client")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("설정한 windowSize만큼 기록을 유지한다")
+    void keepsConfiguredWindowSize() {
+        // given
+        RecommendationProperties properties = propertiesWithTtl(Duration.ofHours(1));
+        properties.getHistory().setWindowSize(2);
+        InMemoryRecommendationHistoryStore store = new InMemoryRecommendationHistoryStore(properties);
+
+        // when
+        store.append("client", 1L);
+        store.append("client", 2L);
+        store.append("client", 3L);
+
+        // then
+        assertThat(store.findRecentMenuIds("client")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("만료 정리와 동시에 추가해도 추가한 기록이 사라지지 않는다")
+    void keepsAppendsRacingWithPurge() throws Exception {
+        // given
+        InMemoryRecommendationHistoryStore store = new InMemoryRecommendationHistoryStore(propertiesWithTtl(Duration.ofHours(1)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> purger = executor.submit(() -> {
+            while (running.get()) {
+                store.purgeExpired();
+                store.clear("other");
+            }
+        });
+
+        // when
+        Future<?> appender = executor.submit(() -> {
+            for (long id = 1; id <= 10_000; id++) {
+                store.append("client-" + id, id);
+            }
+        });
+        appender.get(10, TimeUnit.SECONDS);
+        running.set(false);
+        purger.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(store.findRecentMenuIds("client-" + id)).containsExactly(id);
+        }
+    }
+
+    private RecommendationProperties propertiesWithTtl(Duration ttl) {
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.getHistory().setTtl(ttl);
+        return properties;
+    }
+}
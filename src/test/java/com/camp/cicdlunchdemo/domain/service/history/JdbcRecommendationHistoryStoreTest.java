@@ -0,0 +1,79 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "lunch.recommendation.history.store=jdbc")
+@Transactional
+@DisplayName("JdbcRecommendationHistoryStore 통합 테스트 (H2)")
+class JdbcRecommendationHistoryStoreTest {
+
+    @Autowired
+    private RecommendationHistoryStore historyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("JDBC 저장소가 선택된다")
+    void usesJdbcStore() {
+        assertThat(historyStore).isInstanceOf(JdbcRecommendationHistoryStore.class);
+    }
+
+    @Test
+    @DisplayName("최근 5개만 유지하고 다시 추가된 ID는 최근으로 갱신한다")
+    void keepsMostRecentWindow() {
+        // given
+        for (long i = 1; i <= 5; i++) {
+            historyStore.append("client", i);
+        }
+        historyStore.append("client", 1L);
+
+        // when
+        historyStore.append("client", 6L);
+
+        // then
+        Set<Long> history = historyStore.findRecentMenuIds("client");
+        assertThat(history).containsExactly(6L, 1L, 5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("시계가 앞선 노드가 남긴 기록이 있어도 새로 추가한 기록이 가장 최근이 된다")
+    void ordersAfterRecordsFromSkewedClock() {
+        // given - 다른 노드가 10분 앞선 시각으로 기록한 상황
+        jdbcTemplate.update(
+                "INSERT INTO recommendation_history (client_id, menu_id, recommended_at) VALUES (?, ?, ?)",
+                "client", 1L, LocalDateTime.now().plusMinutes(10));
+
+        // when
+        historyStore.appendAll("client", List.of(2L, 3L));
+
+        // then
+        assertThat(historyStore.findRecentMenuIds("client")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("클라이언트별로 기록을 분리하고 초기화한다")
+    void isolatesAndClearsPerClient() {
+        // given
+        historyStore.append("client-1", 1L);
+        historyStore.append("client-2", 2L);
+
+        // when
+        historyStore.clear("client-1");
+
+        // then
+        assertThat(historyStore.findRecentMenuIds("client-1")).isEmpty();
+        assertThat(historyStore.findRecentMenuIds("client-2")).containsExactly(2L);
+    }
+}
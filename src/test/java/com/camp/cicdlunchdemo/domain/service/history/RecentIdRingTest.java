@@ -0,0 +1,181 @@
+package com.camp.cicdlunchdemo.domain.service.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RecentIdRing 단위 테스트")
+class RecentIdRingTest {
+
+    @Nested
+    @DisplayName("add 메서드")
+    class Add {
+
+        @Test
+        @DisplayName("용량을 넘으면 가장 오래된 ID를 덮어쓴다")
+        void overwritesOldestWhenFull() {
+            // given
+            RecentIdRing ring = new RecentIdRing(3);
+
+            // when
+            for (long id = 1; id <= 5; id++) {
+                ring.add(id);
+            }
+
+            // then
+            assertThat(ring.asSet()).containsExactly(3L, 4L, 5L);
+        }
+
+        @Test
+        @DisplayName("같은 ID를 다시 추가하면 가장 최근으로 옮긴다")
+        void movesDuplicateToMostRecent() {
+            // given
+            RecentIdRing ring = new RecentIdRing(3);
+            ring.add(1L);
+            ring.add(2L);
+
+            // when
+            ring.add(1L);
+
+            // then
+            assertThat(ring.asSet()).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("재추가해도 빈 칸이 남지 않아 서로 다른 ID를 용량만큼 보관한다")
+        void keepsFullWindowAfterReAdd() {
+            // given
+            RecentIdRing ring = new RecentIdRing(3);
+            ring.add(1L);
+            ring.add(2L);
+            ring.add(3L);
+            ring.add(1L);
+
+            // when
+            ring.add(4L);
+
+            // then
+            assertThat(ring.asSet()).containsExactly(3L, 1L, 4L);
+            assertThat(ring.contains(2L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("양수가 아닌 ID는 거부한다")
+        void rejectsNonPositiveId() {
+            RecentIdRing ring = new RecentIdRing(3);
+
+            assertThatThrownBy(() -> ring.add(0L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 용량을 넘지 않는다")
+    void staysWithinCapacityUnderConcurrentAdds() throws Exception {
+        // given
+        RecentIdRing ring = new RecentIdRing(5);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long base = t * 10_000L;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (long i = 1; i <= 1_000; i++) {
+                    ring.add(base + i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Set<Long> ids = ring.asSet();
+        assertThat(ids).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 ID를 동시에 추가해도 한 번만 보관한다")
+    void keepsSingleCopyUnderConcurrentReAdds() throws Exception {
+        // given
+        RecentIdRing ring = new RecentIdRing(5);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (long i = 1; i <= 1_000; i++) {
+                    ring.add(i % 3 + 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        ring.add(10L);
+        ring.add(11L);
+
+        // then
+        assertThat(ring.asSet()).containsExactlyInAnyOrder(1L, 2L, 3L, 10L, 11L);
+    }
+
+    @Test
+    @DisplayName("asSet은 복사 없이 버퍼를 그대로 보는 읽기 전용 뷰다")
+    void asSetIsLiveReadOnlyView() {
+        // given
+        RecentIdRing ring = new RecentIdRing(3);
+        ring.add(1L);
+        Set<Long> view = ring.asSet();
+
+        // when
+        ring.add(2L);
+
+        // then
+        assertThat(view).containsExactly(1L, 2L);
+        assertThat(view.contains(2L)).isTrue();
+        assertThat(ring.asSet()).isSameAs(view);
+        assertThatThrownBy(() -> view.add(3L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("clear 후에는 비어 있다")
+    void isEmptyAfterClear() {
+        // given
+        RecentIdRing ring = new RecentIdRing(3);
+        ring.add(1L);
+
+        // when
+        ring.clear();
+
+        // then
+        assertThat(ring.asSet()).isEmpty();
+        assertThat(ring.contains(1L)).isFalse();
+    }
+}
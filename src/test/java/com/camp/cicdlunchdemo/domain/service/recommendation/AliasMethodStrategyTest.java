@@ -0,0 +1,214 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("AliasMethodStrategy 단위 테스트")
+class AliasMethodStrategyTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    private AliasMethodStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new AliasMethodStrategy(new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("recommend 메서드")
+    class Recommend {
+
+        @Test
+        @DisplayName("빈 스냅샷이면 빈 Optional을 반환한다")
+        void returnsEmptyWhenSnapshotIsEmpty() {
+            // given
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, List.of());
+
+            // when
+            Optional<LunchMenu> result = strategy.recommend(snapshot, Set.of());
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("선택 비율이 weight 비율과 오차 범위 내에서 일치한다")
+        void empiricalDistributionMatchesWeights() {
+            // given - 가중치 1~5 (합계 15)
+            List<LunchMenu> menus = List.of(
+                    createMenu(1L, "메뉴1", 1),
+                    createMenu(2L, "메뉴2", 2),
+                    createMenu(3L, "메뉴3", 3),
+                    createMenu(4L, "메뉴4", 4),
+                    createMenu(5L, "메뉴5", 5)
+            );
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, menus);
+
+            // when
+            Map<Long, Integer> selectionCount = new HashMap<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                strategy.recommend(snapshot, Set.of())
+                        .ifPresent(menu -> selectionCount.merge(menu.getId(), 1, Integer::sum));
+            }
+
+            // then
+            for (LunchMenu menu : menus) {
+                double expected = menu.getWeight() / 15.0;
+                double actual = selectionCount.getOrDefault(menu.getId(), 0) / (double) ITERATIONS;
+                assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+            }
+        }
+
+        @Test
+        @DisplayName("같은 스냅샷에서는 alias 테이블을 한 번만 생성한다")
+        void buildsAliasTableOncePerSnapshot() {
+            // given
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, List.of(createMenu(1L, "메뉴1", 3)));
+
+            // when
+            strategy.recommend(snapshot, Set.of());
+            AliasTable first = snapshot.derive(AliasTable.class, s -> AliasTable.of(s.getMenus()));
+            strategy.recommend(snapshot, Set.of());
+            AliasTable second = snapshot.derive(AliasTable.class, s -> AliasTable.of(s.getMenus()));
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("제외 목록에 있는 메뉴는 선택하지 않는다")
+        void excludesMenusInExcludeList() {
+            // given
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, List.of(
+                    createMenu(1L, "김치찌개", 3),
+                    createMenu(2L, "짜장면", 2),
+                    createMenu(3L, "초밥", 1)
+            ));
+
+            // when & then
+            for (int i = 0; i < 100; i++) {
+                Optional<LunchMenu> result = strategy.recommend(snapshot, Set.of(1L));
+                assertThat(result).isPresent();
+                assertThat(result.get().getId()).isNotEqualTo(1L);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("제외 목록이 있는 recommend 메서드")
+    class RecommendExcluding {
+
+        @Test
+        @DisplayName("제외 후 남은 메뉴들의 weight 비율대로 선택한다")
+        void selectsByWeightAmongRemainingMenus() {
+            // given - 가장 무거운 메뉴(5)를 제외하여 rejection 실패 후 누적 가중치 경로도 거치도록 함
+            List<LunchMenu> menus = List.of(
+                    createMenu(1L, "메뉴1", 1),
+                    createMenu(2L, "메뉴2", 2),
+                    createMenu(3L, "메뉴3", 5)
+            );
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, menus);
+
+            // when
+            Map<Long, Integer> selectionCount = new HashMap<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                strategy.recommend(snapshot, Set.of(3L))
+                        .ifPresent(menu -> selectionCount.merge(menu.getId(), 1, Integer::sum));
+            }
+
+            // then
+            assertThat(selectionCount).doesNotContainKey(3L);
+            assertThat(selectionCount.get(1L) / (double) ITERATIONS).isCloseTo(1 / 3.0, within(TOLERANCE));
+            assertThat(selectionCount.get(2L) / (double) ITERATIONS).isCloseTo(2 / 3.0, within(TOLERANCE));
+        }
+
+        @Test
+        @DisplayName("모든 메뉴가 제외되면 전체 목록에서 선택한다")
+        void selectsFromAllWhenAllExcluded() {
+            // given
+            List<LunchMenu> menus = List.of(createMenu(1L, "메뉴1", 1), createMenu(2L, "메뉴2", 2));
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, menus);
+
+            // when
+            Optional<LunchMenu> result = strategy.recommend(snapshot, Set.of(1L, 2L));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(menus).contains(result.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("AliasTable")
+    class AliasTableTest {
+
+        @Test
+        @DisplayName("모든 가중치가 0이면 균등 확률로 선택한다")
+        void selectsUniformlyWhenAllWeightsAreZero() {
+            // given
+            AliasTable table = AliasTable.of(new int[]{0, 0, 0, 0});
+
+            // when
+            int[] counts = new int[4];
+            for (int i = 0; i < ITERATIONS; i++) {
+                counts[table.sample()]++;
+            }
+
+            // then
+            for (int count : counts) {
+                assertThat(count / (double) ITERATIONS).isCloseTo(0.25, within(TOLERANCE));
+            }
+        }
+
+        @Test
+        @DisplayName("가중치가 0인 항목은 선택되지 않는다")
+        void neverSelectsZeroWeight() {
+            // given
+            AliasTable table = AliasTable.of(new int[]{0, 5, 0, 1});
+
+            // when & then
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(table.sample()).isIn(1, 3);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("전략 이름은 ALIAS_METHOD이다")
+    void strategyNameIsAliasMethod() {
+        assertThat(strategy.getStrategyName()).isEqualTo("ALIAS_METHOD");
+    }
+
+    private LunchMenu createMenu(Long id, String name, int weight) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(weight)
+                .build();
+        try {
+            var idField = LunchMenu.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(menu, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return menu;
+    }
+}
@@ -0,0 +1,101 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MenuAttributeIndex 단위 테스트")
+class MenuAttributeIndexTest {
+
+    private final MenuSnapshot snapshot = MenuSnapshot.of(1L, List.of(
+            createMenu(1L, "김치찌개", Category.KOREAN, 2, 3),
+            createMenu(2L, "짜장면", Category.CHINESE, 0, 4),
+            createMenu(3L, "초밥", Category.JAPANESE, 0, 5),
+            createMenu(4L, "비빔밥", Category.KOREAN, 1, 5),
+            createMenu(5L, "햄버거", Category.FASTFOOD, 1, 1)
+    ));
+
+    @Test
+    @DisplayName("같은 스냅샷에서는 인덱스를 한 번만 생성한다")
+    void memoizesPerSnapshot() {
+        assertThat(MenuAttributeIndex.of(snapshot)).isSameAs(MenuAttributeIndex.of(snapshot));
+    }
+
+    @Nested
+    @DisplayName("candidates 메서드")
+    class Candidates {
+
+        @Test
+        @DisplayName("맵기 1 이하, 일식 제외, 가중치 3 이상 조건을 비트셋 교집합으로 계산한다")
+        void intersectsAttributeBitSets() {
+            // given
+            MenuFilter filter = MenuFilter.builder()
+                    .maxSpicyLevel(1)
+                    .excludedCategories(Set.of(Category.JAPANESE))
+                    .minWeight(3)
+                    .build();
+            MenuAttributeIndex index = MenuAttributeIndex.of(snapshot);
+
+            // when
+            BitSet candidates = index.candidates(filter);
+
+            // then
+            assertThat(index.menusOf(candidates)).extracting(LunchMenu::getId).containsExactly(2L, 4L);
+        }
+
+        @Test
+        @DisplayName("허용 카테고리와 범위 밖 조건도 처리한다")
+        void handlesAllowedCategoriesAndOutOfRangeBounds() {
+            // given
+            MenuAttributeIndex index = MenuAttributeIndex.of(snapshot);
+            MenuFilter korean = MenuFilter.builder().categories(Set.of(Category.KOREAN)).maxWeight(100).build();
+            MenuFilter tooSpicy = MenuFilter.builder().minSpicyLevel(10).build();
+
+            // when & then
+            assertThat(index.menusOf(index.candidates(korean))).extracting(LunchMenu::getId).containsExactly(1L, 4L);
+            assertThat(index.candidates(tooSpicy)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제외 ID를 빼고, 모두 제외되면 원래 후보를 유지한다")
+        void excludesIdsUnlessAllExcluded() {
+            // given
+            MenuAttributeIndex index = MenuAttributeIndex.of(snapshot);
+            BitSet korean = index.candidates(MenuFilter.ofCategories(Set.of(Category.KOREAN)));
+
+            // when & then
+            assertThat(index.menusOf(index.excluding(korean, Set.of(1L)))).extracting(LunchMenu::getId)
+                    .containsExactly(4L);
+            assertThat(index.excluding(korean, Set.of(1L, 4L))).isEqualTo(korean);
+        }
+    }
+
+    @Test
+    @DisplayName("범위 조건의 최솟값이 최댓값보다 크면 예외가 발생한다")
+    void invalidRangeThrowsException() {
+        assertThatThrownBy(() -> MenuFilter.builder().minWeight(4).maxWeight(2).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LunchMenu createMenu(Long id, String name, Category category, int spicyLevel, int weight) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(category)
+                .spicyLevel(spicyLevel)
+                .weight(weight)
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
@@ -0,0 +1,100 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecommendationMetrics 단위 테스트")
+class RecommendationMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationMetrics recommendationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recommendationMetrics = new RecommendationMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("recordOne / recordMany 메서드")
+    class Record {
+
+        @Test
+        @DisplayName("전략 이름 태그별로 소요 시간을 기록하고 결과를 그대로 반환한다")
+        void recordsLatencyPerStrategy() {
+            // given
+            LunchMenu menu = createMenu(1L, "김치찌개");
+
+            // when
+            Optional<LunchMenu> one = recommendationMetrics.recordOne("WEIGHTED_RANDOM", () -> Optional.of(menu));
+            List<LunchMenu> many = recommendationMetrics.recordMany("WEIGHTED_RESERVOIR", () -> List.of(menu, menu));
+
+            // then
+            assertThat(one).contains(menu);
+            assertThat(many).hasSize(2);
+            assertThat(meterRegistry.get(RecommendationMetrics.LATENCY)
+                    .tag(RecommendationMetrics.STRATEGY_TAG, "WEIGHTED_RANDOM").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(RecommendationMetrics.LATENCY)
+                    .tag(RecommendationMetrics.STRATEGY_TAG, "WEIGHTED_RESERVOIR").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("결과가 비어 있으면 빈 결과 카운터를 증가시킨다")
+        void countsEmptyResults() {
+            // when
+            recommendationMetrics.recordOne("SIMPLE_RANDOM", Optional::empty);
+            recommendationMetrics.recordOne("SIMPLE_RANDOM", () -> Optional.of(createMenu(1L, "김치찌개")));
+            recommendationMetrics.recordMany("SIMPLE_RANDOM", List::of);
+
+            // then
+            assertThat(meterRegistry.get(RecommendationMetrics.EMPTY)
+                    .tag(RecommendationMetrics.STRATEGY_TAG, "SIMPLE_RANDOM").counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get(RecommendationMetrics.LATENCY)
+                    .tag(RecommendationMetrics.STRATEGY_TAG, "SIMPLE_RANDOM").timer().count()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("제외 조건 fallback")
+    class Fallback {
+
+        @Test
+        @DisplayName("모든 메뉴가 제외되어 제외 조건을 무시하면 전략별 fallback 카운터를 증가시킨다")
+        void countsFallbackWhenEveryMenuIsExcluded() {
+            // given
+            SimpleRandomStrategy strategy = new SimpleRandomStrategy(meterRegistry);
+            List<LunchMenu> menus = List.of(createMenu(1L, "김치찌개"), createMenu(2L, "된장찌개"));
+
+            // when
+            strategy.recommend(menus, Set.of(1L));
+            strategy.recommend(menus, Set.of(1L, 2L));
+
+            // then
+            assertThat(meterRegistry.get(RecommendationMetrics.FALLBACK)
+                    .tag(RecommendationMetrics.STRATEGY_TAG, strategy.getStrategyName())
+                    .counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    private LunchMenu createMenu(Long id, String name) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
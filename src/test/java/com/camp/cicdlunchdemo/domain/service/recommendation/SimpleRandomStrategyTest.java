@@ -2,6 +2,7 @@ package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,7 +22,7 @@ class SimpleRandomStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new SimpleRandomStrategy();
+        strategy = new SimpleRandomStrategy(new SimpleMeterRegistry());
     }
 
     @Nested
@@ -2,10 +2,11 @@ package com.camp.cicdlunchdemo.domain.service.recommendation;
 
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
-import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -16,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @DisplayName("WeightedRandomStrategy 단위 테스트")
 class WeightedRandomStrategyTest {
@@ -24,7 +26,7 @@ class WeightedRandomStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new WeightedRandomStrategy();
+        strategy = new WeightedRandomStrategy(new SimpleMeterRegistry());
     }
 
     @Nested
@@ -102,6 +104,107 @@ class WeightedRandomStrategyTest {
         }
     }
 
+    @Nested
+    @DisplayName("스냅샷 기반 recommend 메서드")
+    class RecommendFromSnapshot {
+
+        @Test
+        @DisplayName("제외 후 남은 메뉴들의 weight 비율대로 선택한다")
+        void selectsByWeightAmongRemainingMenus() {
+            // given - 1L(가중치 3) 제외 시 2L:3L = 2:1
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, createTestMenus());
+            Set<Long> excludeIds = Set.of(1L);
+            int iterations = 100_000;
+
+            // when
+            Map<Long, Integer> selectionCount = new HashMap<>();
+            for (int i = 0; i < iterations; i++) {
+                strategy.recommend(snapshot, excludeIds)
+                        .ifPresent(menu -> selectionCount.merge(menu.getId(), 1, Integer::sum));
+            }
+
+            // then
+            assertThat(selectionCount).doesNotContainKey(1L);
+            assertThat(selectionCount.get(2L) / (double) iterations).isCloseTo(2 / 3.0, within(0.01));
+            assertThat(selectionCount.get(3L) / (double) iterations).isCloseTo(1 / 3.0, within(0.01));
+        }
+
+        @Test
+        @DisplayName("모든 메뉴가 제외되면 전체 목록에서 선택한다")
+        void selectsFromAllWhenAllExcluded() {
+            // given
+            List<LunchMenu> menus = createTestMenus();
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, menus);
+
+            // when
+            Optional<LunchMenu> result = strategy.recommend(snapshot, Set.of(1L, 2L, 3L));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(menus).contains(result.get());
+        }
+
+        @Test
+        @DisplayName("빈 스냅샷이면 빈 Optional을 반환한다")
+        void returnsEmptyWhenSnapshotIsEmpty() {
+            // when
+            Optional<LunchMenu> result = strategy.recommend(MenuSnapshot.of(1L, List.of()), Set.of());
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 기반 recommend 메서드")
+    class RecommendWithFilter {
+
+        @Test
+        @DisplayName("조건을 만족하는 메뉴 중에서 weight 비율대로 선택한다")
+        void selectsByWeightAmongMatchingMenus() {
+            // given - 일식 제외 시 1L:2L = 3:2
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, createTestMenus());
+            MenuFilter filter = MenuFilter.builder().excludedCategories(Set.of(Category.JAPANESE)).build();
+            int iterations = 100_000;
+
+            // when
+            Map<Long, Integer> selectionCount = new HashMap<>();
+            for (int i = 0; i < iterations; i++) {
+                strategy.recommend(snapshot, filter, Set.of())
+                        .ifPresent(menu -> selectionCount.merge(menu.getId(), 1, Integer::sum));
+            }
+
+            // then
+            assertThat(selectionCount).doesNotContainKey(3L);
+            assertThat(selectionCount.get(1L) / (double) iterations).isCloseTo(3 / 5.0, within(0.01));
+        }
+
+        @Test
+        @DisplayName("조건을 만족하는 메뉴가 모두 제외되면 제외 조건만 무시한다")
+        void ignoresExclusionsWhenAllMatchingMenusExcluded() {
+            // given
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, createTestMenus());
+            MenuFilter filter = MenuFilter.builder().minWeight(3).build();
+
+            // when
+            Optional<LunchMenu> result = strategy.recommend(snapshot, filter, Set.of(1L));
+
+            // then
+            assertThat(result).map(LunchMenu::getId).contains(1L);
+        }
+
+        @Test
+        @DisplayName("조건을 만족하는 메뉴가 없으면 빈 Optional을 반환한다")
+        void returnsEmptyWhenNothingMatches() {
+            // given
+            MenuSnapshot snapshot = MenuSnapshot.of(1L, createTestMenus());
+            MenuFilter filter = MenuFilter.builder().minWeight(5).build();
+
+            // when & then
+            assertThat(strategy.recommend(snapshot, filter, Set.of())).isEmpty();
+        }
+    }
+
     @Test
     @DisplayName("전략 이름은 WEIGHTED_RANDOM이다")
     void strategyNameIsWeightedRandom() {
@@ -0,0 +1,101 @@
+package com.camp.cicdlunchdemo.domain.service.recommendation;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("WeightedReservoirSampler 단위 테스트")
+class WeightedReservoirSamplerTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    private final List<LunchMenu> menus = List.of(
+            createMenu(1L, "메뉴1", 1),
+            createMenu(2L, "메뉴2", 2),
+            createMenu(3L, "메뉴3", 3),
+            createMenu(4L, "메뉴4", 4),
+            createMenu(5L, "메뉴5", 5)
+    );
+
+    @Test
+    @DisplayName("서로 다른 메뉴를 count개 반환한다")
+    void returnsDistinctMenus() {
+        // when
+        List<LunchMenu> result = WeightedReservoirSampler.sample(menus, Set.of(), 3);
+
+        // then
+        assertThat(result).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("count가 메뉴 수보다 크면 전체 메뉴를 반환한다")
+    void returnsAllMenusWhenCountExceedsSize() {
+        // when
+        List<LunchMenu> result = WeightedReservoirSampler.sample(menus, Set.of(), 10);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderElementsOf(menus);
+    }
+
+    @Test
+    @DisplayName("제외 대상이 아닌 메뉴를 우선하고, 부족하면 제외 대상으로 채운다")
+    void prefersNonExcludedMenus() {
+        // when
+        List<LunchMenu> result = WeightedReservoirSampler.sample(menus, Set.of(1L, 2L, 3L), 3);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result.subList(0, 2)).extracting(LunchMenu::getId).containsExactlyInAnyOrder(4L, 5L);
+        assertThat(result.get(2).getId()).isIn(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("첫 번째로 뽑힌 메뉴의 비율이 weight 비율과 일치한다")
+    void firstPickMatchesWeights() {
+        // when
+        Map<Long, Integer> firstPickCount = new HashMap<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            LunchMenu first = WeightedReservoirSampler.sample(menus, Set.of(), 2).get(0);
+            firstPickCount.merge(first.getId(), 1, Integer::sum);
+        }
+
+        // then
+        for (LunchMenu menu : menus) {
+            double expected = menu.getWeight() / 15.0;
+            double actual = firstPickCount.getOrDefault(menu.getId(), 0) / (double) ITERATIONS;
+            assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 빈 결과를 반환한다")
+    void returnsEmptyWhenNoMenus() {
+        assertThat(WeightedReservoirSampler.sample(List.of(), Set.of(), 3)).isEmpty();
+    }
+
+    private LunchMenu createMenu(Long id, String name, int weight) {
+        LunchMenu menu = LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(weight)
+                .build();
+        try {
+            var idField = LunchMenu.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(menu, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return menu;
+    }
+}
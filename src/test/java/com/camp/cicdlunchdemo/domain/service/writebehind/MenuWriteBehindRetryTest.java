@@ -0,0 +1,101 @@
+package com.camp.cicdlunchdemo.domain.service.writebehind;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.LunchMenuService;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 반영 트랜잭션이 실제로 롤백되어야 하므로 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리
+@SpringBootTest(properties = {
+        "lunch.write-behind.enabled=true",
+        "lunch.write-behind.flush-interval=PT1H",
+        "lunch.write-behind.max-attempts=2"
+})
+@DisplayName("메뉴 write-behind 반영 실패 처리 통합 테스트 (H2)")
+class MenuWriteBehindRetryTest {
+
+    @Autowired
+    private LunchMenuService lunchMenuService;
+
+    @Autowired
+    private MenuWriteBehind menuWriteBehind;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    private LunchMenu failing;
+    private LunchMenu healthy;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+        failing = lunchMenuRepository.saveAndFlush(createMenu("김치찌개"));
+        healthy = lunchMenuRepository.saveAndFlush(createMenu("된장찌개"));
+        menuCatalog.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuWriteBehind.flush();
+        lunchMenuRepository.deleteAllInBatch();
+        menuCatalog.invalidate();
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 한 건씩 다시 반영하고, 계속 실패하는 변경은 최대 시도 후 버린다")
+    void retriesOneByOneAndDropsAfterMaxAttempts() {
+        // given - 이름 열 길이(50)를 넘는 수정은 DB 반영 시 실패함
+        lunchMenuService.update(failing.getId(), form("가".repeat(60), failing.getVersion()));
+        lunchMenuService.update(healthy.getId(), form("순두부찌개", healthy.getVersion()));
+
+        // when
+        menuWriteBehind.flush();
+
+        // then - 정상 변경은 반영되고 실패한 변경만 대기열에 남음
+        assertThat(lunchMenuRepository.findById(healthy.getId()).orElseThrow().getName()).isEqualTo("순두부찌개");
+        assertThat(menuWriteBehind.findPending(healthy.getId())).isEmpty();
+        assertThat(menuWriteBehind.findPending(failing.getId())).isPresent();
+
+        // when - 두 번째 실패에서 버림
+        menuWriteBehind.flush();
+
+        // then
+        assertThat(menuWriteBehind.hasPending()).isFalse();
+        assertThat(lunchMenuService.getById(failing.getId()).getName()).isEqualTo("김치찌개");
+        assertThat(lunchMenuRepository.findById(failing.getId()).orElseThrow().getVersion())
+                .isEqualTo(failing.getVersion());
+        assertThat(menuWriteBehind.takeLost(failing.getId()))
+                .hasValueSatisfying(lost -> assertThat(lost.reason()).isEqualTo(LostMenuWrite.Reason.DROPPED));
+        assertThat(menuWriteBehind.takeLost(healthy.getId())).isEmpty();
+    }
+
+    private static LunchMenu createMenu(String name) {
+        return LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build();
+    }
+
+    private static LunchMenuForm form(String name, Long version) {
+        return LunchMenuForm.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,254 @@
+package com.camp.cicdlunchdemo.domain.service.writebehind;
+
+import com.camp.cicdlunchdemo.config.RecommendationProperties;
+import com.camp.cicdlunchdemo.config.RecommendationProperties.SamplingMode;
+import com.camp.cicdlunchdemo.config.WriteBehindProperties;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.exception.MenuConcurrentModificationException;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.LunchMenuService;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.web.dto.LunchMenuForm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 테스트 도중 스케줄러가 테스트 트랜잭션 밖에서 반영하지 않도록 주기를 길게 둠
+@SpringBootTest(properties = {
+        "lunch.write-behind.enabled=true",
+        "lunch.write-behind.flush-interval=PT1H"
+})
+@Transactional
+@DisplayName("메뉴 write-behind 통합 테스트 (H2)")
+class MenuWriteBehindTest {
+
+    @Autowired
+    private LunchMenuService lunchMenuService;
+
+    @Autowired
+    private MenuWriteBehind menuWriteBehind;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LunchMenu menu;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAllInBatch();
+        menu = lunchMenuRepository.saveAndFlush(LunchMenu.builder()
+                .name("김치찌개")
+                .category(Category.KOREAN)
+                .weight(1)
+                .build());
+        menuCatalog.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트에 대기 중인 변경이 남지 않도록 비움 (테스트 트랜잭션과 함께 롤백됨)
+        menuWriteBehind.flush();
+    }
+
+    @Test
+    @DisplayName("수정은 DB에 반영되기 전에도 조회와 카탈로그에 바로 보인다")
+    void queuedUpdateIsVisibleBeforeFlush() {
+        // given
+        LunchMenuForm form = form("된장찌개", menu.getVersion());
+
+        // when
+        LunchMenu result = lunchMenuService.update(menu.getId(), form);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(menu.getVersion() + 1);
+        assertThat(lunchMenuService.getById(menu.getId()).getName()).isEqualTo("된장찌개");
+        assertThat(menuCatalog.getSnapshot().findById(menu.getId()))
+                .hasValueSatisfying(cached -> assertThat(cached.getName()).isEqualTo("된장찌개"));
+        assertThat(lunchMenuService.findVersionById(menu.getId()))
+                .hasValueSatisfying(version -> assertThat(version.getVersion()).isEqualTo(menu.getVersion() + 1));
+
+        entityManager.clear();
+        assertThat(lunchMenuRepository.findById(menu.getId()).orElseThrow().getName()).isEqualTo("김치찌개");
+    }
+
+    @Test
+    @DisplayName("같은 메뉴의 연속된 수정은 합쳐져 마지막 값과 버전으로 한 번에 반영된다")
+    void coalescesUpdatesAndFlushesLatestVersion() {
+        // given
+        LunchMenu first = lunchMenuService.update(menu.getId(), form("된장찌개", menu.getVersion()));
+        lunchMenuService.update(menu.getId(), form("순두부찌개", first.getVersion()));
+
+        // when
+        menuWriteBehind.flush();
+
+        // then
+        entityManager.clear();
+        LunchMenu flushed = lunchMenuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(flushed.getName()).isEqualTo("순두부찌개");
+        assertThat(flushed.getVersion()).isEqualTo(menu.getVersion() + 2);
+        assertThat(menuWriteBehind.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 중인 수정보다 이전 버전으로 수정하면 동시성 예외를 던진다")
+    void rejectsStaleVersionAgainstQueuedUpdate() {
+        // given
+        Long staleVersion = menu.getVersion();
+        lunchMenuService.update(menu.getId(), form("된장찌개", staleVersion));
+
+        // when & then
+        assertThatThrownBy(() -> lunchMenuService.update(menu.getId(), form("순두부찌개", staleVersion)))
+                .isInstanceOf(MenuConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("반영 전에 DB가 다른 곳에서 수정되었으면 대기 중인 수정을 버린다")
+    void dropsQueuedUpdateOnConflict() {
+        // given
+        lunchMenuService.update(menu.getId(), form("된장찌개", menu.getVersion()));
+        LunchMenu concurrent = lunchMenuRepository.findById(menu.getId()).orElseThrow();
+        concurrent.update("부대찌개", null, Category.KOREAN, 0, 1);
+        lunchMenuRepository.flush();
+
+        // when
+        menuWriteBehind.flush();
+
+        // then
+        entityManager.clear();
+        assertThat(lunchMenuRepository.findById(menu.getId()).orElseThrow().getName()).isEqualTo("부대찌개");
+        assertThat(menuWriteBehind.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("충돌로 버려진 수정은 단건 조회에서 한 번만 알린다")
+    void reportsConflictedUpdateOnce() {
+        // given
+        LunchMenu queued = lunchMenuService.update(menu.getId(), form("된장찌개", menu.getVersion()));
+        jdbcTemplate.update("UPDATE lunch_menu SET name = '부대찌개', version = version + 1 WHERE id = ?", menu.getId());
+        menuWriteBehind.flush();
+
+        // when
+        Optional<LostMenuWrite> first = lunchMenuService.takeLostWrite(menu.getId());
+        Optional<LostMenuWrite> second = lunchMenuService.takeLostWrite(menu.getId());
+
+        // then
+        assertThat(first).hasValueSatisfying(lost -> {
+            assertThat(lost.reason()).isEqualTo(LostMenuWrite.Reason.CONFLICT);
+            assertThat(lost.lostVersion()).isEqualTo(queued.getVersion());
+        });
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 수정을 접수하면 이전에 버려진 변경은 더 알리지 않는다")
+    void newWriteClearsLostWrite() {
+        // given
+        lunchMenuService.update(menu.getId(), form("된장찌개", menu.getVersion()));
+        jdbcTemplate.update("UPDATE lunch_menu SET version = version + 1 WHERE id = ?", menu.getId());
+        menuWriteBehind.flush();
+        entityManager.clear();
+
+        // when
+        lunchMenuService.update(menu.getId(), form("순두부찌개", menu.getVersion() + 1));
+
+        // then
+        assertThat(lunchMenuService.takeLostWrite(menu.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 샘플링 모드와 함께 켜면 기동하지 않는다")
+    void refusesToStartWithDatabaseSampling() {
+        // given
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        RecommendationProperties recommendationProperties = new RecommendationProperties();
+        recommendationProperties.setSamplingMode(SamplingMode.DATABASE);
+
+        // when & then
+        assertThatThrownBy(() -> new MenuWriteBehind(lunchMenuRepository, null, menuCatalog, null,
+                properties, recommendationProperties, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("가중치가 같으면 반영 시 DB의 가중치 구간을 덮어쓰지 않는다")
+    void keepsDatabaseWeightStartWhenWeightIsUnchanged() {
+        // given - 대기 중에 구간 압축 등으로 DB의 구간이 옮겨진 상황
+        lunchMenuService.update(menu.getId(), form("된장찌개", menu.getVersion()));
+        jdbcTemplate.update("UPDATE lunch_menu SET weight_start = 42 WHERE id = ?", menu.getId());
+
+        // when
+        menuWriteBehind.flush();
+
+        // then
+        entityManager.clear();
+        LunchMenu flushed = lunchMenuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(flushed.getName()).isEqualTo("된장찌개");
+        assertThat(flushed.getWeightStart()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("가중치가 바뀌면 반영 시 새 가중치 구간을 할당한다")
+    void allocatesNewWeightStartWhenWeightChanges() {
+        // given
+        LunchMenuForm form = form("된장찌개", menu.getVersion());
+        form.setWeight(5);
+        lunchMenuService.update(menu.getId(), form);
+        jdbcTemplate.update("UPDATE lunch_menu SET weight_start = 42 WHERE id = ?", menu.getId());
+
+        // when
+        menuWriteBehind.flush();
+
+        // then
+        entityManager.clear();
+        LunchMenu flushed = lunchMenuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(flushed.getWeight()).isEqualTo(5);
+        assertThat(flushed.getWeightStart()).isNotEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("삭제는 목록에서 바로 빠지고 반영 시 DB에서 삭제된다")
+    void queuedDeleteIsHiddenAndFlushed() {
+        // given
+        lunchMenuService.delete(menu.getId());
+        assertThat(lunchMenuService.findAll()).isEmpty();
+        assertThat(lunchMenuService.findById(menu.getId())).isEmpty();
+
+        // when
+        menuWriteBehind.flush();
+
+        // then
+        assertThat(lunchMenuRepository.existsById(menu.getId())).isFalse();
+    }
+
+    private static LunchMenuForm form(String name, Long version) {
+        return LunchMenuForm.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.camp.cicdlunchdemo.trace;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "lunch.trace.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("요청별 핫패스 추적 통합 테스트 (H2)")
+class RequestTraceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private RequestTraceBuffer requestTraceBuffer;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAll();
+        lunchMenuRepository.save(createMenu("김치찌개"));
+        lunchMenuRepository.save(createMenu("된장찌개"));
+        menuCatalog.invalidate();
+        requestTraceBuffer.clear();
+    }
+
+    @Test
+    @DisplayName("추천 요청의 계층별 구간과 JDBC 문장/행 수를 버퍼에 기록한다")
+    void recordsLayeredSpansAndJdbcCounts() throws Exception {
+        // when
+        mockMvc.perform(get("/api/menus/recommend")).andExpect(status().isOk());
+
+        // then
+        RequestTraceRecord record = requestTraceBuffer.recent().get(0);
+        assertThat(record.method()).isEqualTo("GET");
+        assertThat(record.uri()).isEqualTo("/api/menus/recommend");
+        assertThat(record.status()).isEqualTo(200);
+        assertThat(record.spans()).extracting(RequestTraceRecord.Span::layer)
+                .contains(TraceLayer.CONTROLLER, TraceLayer.SERVICE, TraceLayer.REPOSITORY, TraceLayer.STRATEGY);
+
+        // 카탈로그를 무효화했으므로 리포지토리 구간에서 전체 메뉴를 읽음
+        RequestTraceRecord.Span findAll = record.spans().stream()
+                .filter(span -> span.name().equals("LunchMenuRepository.findAll"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(findAll.statements()).isGreaterThanOrEqualTo(1);
+        assertThat(findAll.rowsFetched()).isGreaterThanOrEqualTo(2);
+        assertThat(record.statements()).isGreaterThanOrEqualTo(findAll.statements());
+    }
+
+    @Test
+    @DisplayName("actuator 요청은 기록하지 않는다")
+    void skipsActuatorRequests() throws Exception {
+        // when
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        // then
+        assertThat(requestTraceBuffer.recent()).isEmpty();
+    }
+
+    private LunchMenu createMenu(String name) {
+        return LunchMenu.builder()
+                .name(name)
+                .category(Category.KOREAN)
+                .weight(1)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.camp.cicdlunchdemo.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestTrace 단위 테스트")
+class RequestTraceTest {
+
+    @Nested
+    @DisplayName("구간 기록")
+    class Spans {
+
+        @Test
+        @DisplayName("구간은 시작 순서와 깊이로 기록되고, 문장/행 수는 하위 구간을 포함한다")
+        void recordsNestedSpansWithInclusiveCounts() {
+            // given
+            RequestTrace trace = new RequestTrace("GET", "/api/menus/recommend", 10);
+
+            // when
+            trace.enter(TraceLayer.CONTROLLER, "LunchMenuApiController.recommendMenu");
+            trace.enter(TraceLayer.SERVICE, "LunchMenuService.recommendExcluding");
+            trace.enter(TraceLayer.REPOSITORY, "LunchMenuRepository.findAll");
+            trace.onStatement();
+            trace.onRow();
+            trace.onRow();
+            trace.exit();
+            trace.enter(TraceLayer.STRATEGY, "WeightedRandomStrategy.recommend");
+            trace.exit();
+            trace.exit();
+            trace.onStatement();
+            trace.exit();
+            RequestTraceRecord record = trace.finish(200);
+
+            // then
+            List<RequestTraceRecord.Span> spans = record.spans();
+            assertThat(spans).extracting(RequestTraceRecord.Span::layer).containsExactly(
+                    TraceLayer.CONTROLLER, TraceLayer.SERVICE, TraceLayer.REPOSITORY, TraceLayer.STRATEGY);
+            assertThat(spans).extracting(RequestTraceRecord.Span::depth).containsExactly(0, 1, 2, 2);
+            assertThat(spans).extracting(RequestTraceRecord.Span::statements).containsExactly(2, 1, 1, 0);
+            assertThat(spans).extracting(RequestTraceRecord.Span::rowsFetched).containsExactly(2L, 2L, 2L, 0L);
+            assertThat(record.statements()).isEqualTo(2);
+            assertThat(record.rowsFetched()).isEqualTo(2);
+            assertThat(record.status()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("최대 구간 수를 넘는 구간은 개수만 세고 문장 수는 바깥 구간에 합산한다")
+        void dropsSpansOverLimit() {
+            // given
+            RequestTrace trace = new RequestTrace("GET", "/api/menus", 1);
+
+            // when
+            trace.enter(TraceLayer.SERVICE, "LunchMenuService.findAll");
+            trace.enter(TraceLayer.REPOSITORY, "LunchMenuRepository.findAll");
+            trace.onStatement();
+            trace.exit();
+            trace.exit();
+            RequestTraceRecord record = trace.finish(200);
+
+            // then
+            assertThat(record.spans()).hasSize(1);
+            assertThat(record.spans().get(0).statements()).isEqualTo(1);
+            assertThat(record.droppedSpans()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("요청이 끝날 때까지 종료되지 않은 구간의 시간은 -1이다")
+        void unfinishedSpanHasNoDuration() {
+            // given
+            RequestTrace trace = new RequestTrace("GET", "/api/menus/export", 10);
+            trace.enter(TraceLayer.SERVICE, "MenuExportService.export");
+
+            // when
+            RequestTraceRecord record = trace.finish(200);
+
+            // then
+            assertThat(record.spans().get(0).durationMicros()).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("스레드 바인딩")
+    class Binding {
+
+        @Test
+        @DisplayName("다른 추적이 바인딩되어 있으면 해제하지 않는다")
+        void unbindKeepsOtherTrace() {
+            // given
+            RequestTrace first = new RequestTrace("GET", "/a", 10);
+            RequestTrace second = new RequestTrace("GET", "/b", 10);
+            RequestTrace.bind(second);
+
+            // when
+            RequestTrace.unbind(first);
+
+            // then
+            assertThat(RequestTrace.current()).isSameAs(second);
+            RequestTrace.unbind(second);
+            assertThat(RequestTrace.current()).isNull();
+        }
+    }
+}
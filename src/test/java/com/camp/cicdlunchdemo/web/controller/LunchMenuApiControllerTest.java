@@ -3,7 +3,10 @@ package com.camp.cicdlunchdemo.web.controller;
 import com.camp.cicdlunchdemo.domain.entity.Category;
 import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
 import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import com.camp.cicdlunchdemo.web.dto.CompactMenuList;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,12 +15,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -38,9 +48,17 @@ class LunchMenuApiControllerTest {
     @Autowired
     private LunchMenuRepository lunchMenuRepository;
 
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private ClientIdResolver clientIdResolver;
+
     @BeforeEach
     void setUp() {
         lunchMenuRepository.deleteAll();
+        // 테스트 데이터는 리포지토리로 직접 저장하므로 카탈로그를 수동으로 무효화
+        menuCatalog.invalidate();
     }
 
     @Nested
@@ -82,6 +100,120 @@ class LunchMenuApiControllerTest {
                     .andExpect(jsonPath("$.data[*].category", everyItem(is("KOREAN"))));
         }
 
+        @Test
+        @DisplayName("gzip을 허용하면 캐시된 압축본을 Content-Encoding: gzip으로 반환한다")
+        void returnsGzippedBytesWhenAccepted() throws Exception {
+            // given - 기본 압축 임계값(1KB)을 넘도록 메뉴 등록
+            for (int i = 0; i < 20; i++) {
+                createAndSaveMenu("메뉴" + i, Category.KOREAN);
+            }
+            String plain = mockMvc.perform(get("/api/menus"))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/menus").header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                    .andReturn();
+
+            // then
+            try (GZIPInputStream in = new GZIPInputStream(
+                    new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+            }
+        }
+
+        @Test
+        @DisplayName("gzip;q=0이면 압축하지 않는다")
+        void returnsPlainBytesWhenGzipHasZeroQuality() throws Exception {
+            // given
+            for (int i = 0; i < 20; i++) {
+                createAndSaveMenu("메뉴" + i, Category.KOREAN);
+            }
+
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus").header("Accept-Encoding", "gzip;q=0, *;q=1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().string("ETag", not(containsString("-gzip"))))
+                    .andExpect(jsonPath("$.data", hasSize(20)));
+        }
+
+        @Test
+        @DisplayName("압축본이 없는 작은 응답은 압축하지 않지만 ETag는 gzip 협상 결과로 구분한다")
+        void keysETagOnGzipNegotiationEvenWhenNotCompressed() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus").header("Accept-Encoding", "gzip"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().string("ETag", containsString("-gzip")));
+        }
+
+        @Test
+        @DisplayName("304 응답에도 Vary를 내려준다")
+        void notModifiedResponseCarriesVary() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            String eTag = mockMvc.perform(get("/api/menus"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus").header("If-None-Match", eTag));
+
+            // then
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string("Vary", containsString("Accept-Encoding")));
+        }
+
+        @Test
+        @DisplayName("압축 표현을 요청하면 카테고리 사전과 배열 행으로 응답한다")
+        void returnsCompactRepresentationWhenAccepted() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("된장찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus")
+                    .accept(CompactMenuList.MEDIA_TYPE));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(CompactMenuList.MEDIA_TYPE))
+                    .andExpect(jsonPath("$.data.categories", hasSize(2)))
+                    .andExpect(jsonPath("$.data.columns[3]").value("category"))
+                    .andExpect(jsonPath("$.data.rows", hasSize(3)))
+                    .andExpect(jsonPath("$.data.rows[*][3]", everyItem(either(is(0)).or(is(1)))));
+        }
+
+        @Test
+        @DisplayName("압축 표현의 품질값이 JSON보다 낮거나 0이면 JSON으로 응답한다")
+        void returnsJsonWhenCompactIsNotPreferred() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+
+            // when & then
+            mockMvc.perform(get("/api/menus")
+                            .header("Accept", "application/json, " + CompactMenuList.MEDIA_TYPE_VALUE + ";q=0.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+
+            mockMvc.perform(get("/api/menus")
+                            .header("Accept", CompactMenuList.MEDIA_TYPE_VALUE + ";q=0, */*"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+
         @Test
         @DisplayName("빈 목록이면 빈 배열을 반환한다")
         void returnsEmptyArrayWhenNoMenus() throws Exception {
@@ -95,6 +227,152 @@ class LunchMenuApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/menus?limit= (키셋 페이지네이션)")
+    class GetMenuPage {
+
+        @Test
+        @DisplayName("nextCursor로 다음 페이지를 중복 없이 조회한다")
+        void pagesThroughMenusWithCursor() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+            createAndSaveMenu("초밥", Category.JAPANESE);
+
+            // when
+            String firstPage = mockMvc.perform(get("/api/menus").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.menus", hasSize(2)))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.nextCursor").isNotEmpty())
+                    .andReturn().getResponse().getContentAsString();
+            String nextCursor = objectMapper.readTree(firstPage).at("/data/nextCursor").asText();
+
+            ResultActions secondPage = mockMvc.perform(get("/api/menus")
+                    .param("limit", "2")
+                    .param("cursor", nextCursor));
+
+            // then
+            secondPage.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.menus", hasSize(1)))
+                    .andExpect(jsonPath("$.data.hasNext").value(false))
+                    .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 400 에러를 반환한다")
+        void returns400WhenCursorIsInvalid() throws Exception {
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus")
+                    .param("limit", "2")
+                    .param("cursor", "not-a-cursor"));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+
+        @Test
+        @DisplayName("limit이 허용 범위를 벗어나면 400 에러를 반환한다")
+        void returns400WhenLimitOutOfRange() throws Exception {
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus").param("limit", "0"));
+
+            // then
+            result.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/menus/export")
+    class ExportMenus {
+
+        @Test
+        @DisplayName("NDJSON 스트리밍 응답을 반환한다")
+        void streamsNdjson() throws Exception {
+            // when
+            MvcResult asyncResult = mockMvc.perform(get("/api/menus/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/menus/bulk")
+    class BulkImportMenus {
+
+        @Test
+        @DisplayName("JSON 배열로 일괄 등록하고 실패한 행을 보고한다")
+        void importsJsonArray() throws Exception {
+            // given
+            String body = objectMapper.writeValueAsString(List.of(
+                    Map.of("name", "김치찌개", "category", "KOREAN", "spicyLevel", 2, "weight", 3),
+                    Map.of("name", "", "category", "KOREAN", "spicyLevel", 0, "weight", 1)));
+
+            // when
+            ResultActions result = mockMvc.perform(post("/api/menus/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imported").value(1))
+                    .andExpect(jsonPath("$.data.failures", hasSize(1)))
+                    .andExpect(jsonPath("$.data.failures[0].rowNumber").value(2));
+        }
+
+        @Test
+        @DisplayName("CSV 파일로 일괄 등록한다")
+        void importsCsvFile() throws Exception {
+            // given
+            String csv = "name,description,category,spicyLevel,weight\n"
+                    + "김치찌개,\"얼큰한, 찌개\",KOREAN,2,3\n"
+                    + "짜장면,,CHINESE,0,4\n";
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "menus.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+            // when
+            ResultActions result = mockMvc.perform(multipart("/api/menus/bulk").file(file));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imported").value(2));
+            assertThat(lunchMenuRepository.findAll())
+                    .extracting(LunchMenu::getDescription)
+                    .contains("얼큰한, 찌개");
+        }
+
+        @Test
+        @DisplayName("CSV 형식이 잘못된 행은 실패로 보고하고 나머지 행은 등록한다")
+        void reportsMalformedCsvRowsAsFailures() throws Exception {
+            // given
+            String csv = "name,description,category,spicyLevel,weight\n"
+                    + "김치찌개,,UNKNOWN,2,3\n"
+                    + "짜장면,,CHINESE,0,4\n"
+                    + "\"닫히지 않은 따옴표,,KOREAN,0,1\n"
+                    + "비빔밥,,KOREAN,1\n";
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "menus.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+            // when
+            ResultActions result = mockMvc.perform(multipart("/api/menus/bulk").file(file));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.requested").value(4))
+                    .andExpect(jsonPath("$.data.imported").value(1))
+                    .andExpect(jsonPath("$.data.failures[*].rowNumber", contains(1, 3, 4)));
+            assertThat(lunchMenuRepository.findAll())
+                    .extracting(LunchMenu::getName)
+                    .containsExactly("짜장면");
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/menus/{id}")
     class GetMenu {
@@ -128,6 +406,81 @@ class LunchMenuApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("조건부 GET (ETag/Last-Modified)")
+    class ConditionalGet {
+
+        @Test
+        @DisplayName("단건 조회는 버전 ETag가 같으면 304, 수정 후에는 200을 반환한다")
+        void itemUsesVersionETag() throws Exception {
+            // given
+            LunchMenu menu = createAndSaveMenu("김치찌개", Category.KOREAN);
+            String eTag = mockMvc.perform(get("/api/menus/{id}", menu.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("Last-Modified"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(get("/api/menus/{id}", menu.getId()).header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            mockMvc.perform(put("/api/menus/{id}", menu.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "name", "된장찌개", "category", "KOREAN", "spicyLevel", 0, "weight", 3))))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/menus/{id}", menu.getId()).header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(eTag)))
+                    .andExpect(jsonPath("$.data.name").value("된장찌개"));
+        }
+
+        @Test
+        @DisplayName("목록 조회는 카탈로그 지문이 같으면 304, 메뉴가 추가되면 200을 반환한다")
+        void listUsesCatalogFingerprint() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            String eTag = mockMvc.perform(get("/api/menus"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(get("/api/menus").header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(post("/api/menus")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "name", "짜장면", "category", "CHINESE", "spicyLevel", 0, "weight", 1))))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get("/api/menus").header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("목록은 Last-Modified 없이 ETag만 내려주고, 삭제하면 ETag가 달라진다")
+        void listUsesOnlyETagAndReflectsDeletes() throws Exception {
+            // given
+            LunchMenu menu = createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+            String eTag = mockMvc.perform(get("/api/menus"))
+                    .andExpect(header().doesNotExist("Last-Modified"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when
+            mockMvc.perform(delete("/api/menus/{id}", menu.getId())).andExpect(status().isOk());
+
+            // then
+            mockMvc.perform(get("/api/menus").header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/menus")
     class CreateMenu {
@@ -276,6 +629,162 @@ class LunchMenuApiControllerTest {
                     .andExpect(jsonPath("$.data.name").exists());
         }
 
+        @Test
+        @DisplayName("전략 이름을 지정하여 추천한다")
+        void recommendsMenuWithNamedStrategy() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus/recommend")
+                    .param("strategy", "ALIAS_METHOD"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.name").exists());
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 전략이면 400을 반환한다")
+        void returns400WhenUnknownStrategy() throws Exception {
+            // when
+            ResultActions result = mockMvc.perform(get("/api/menus/recommend")
+                    .param("strategy", "UNKNOWN"));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+
+        @Test
+        @DisplayName("X-Client-Id 헤더로 세션 없이 최근 추천을 제외한다")
+        void excludesRecentMenusByClientIdWithoutSession() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+            String clientId = clientIdResolver.issue();
+
+            // when
+            MvcResult first = mockMvc.perform(get("/api/menus/recommend").header("X-Client-Id", clientId))
+                    .andReturn();
+            MvcResult second = mockMvc.perform(get("/api/menus/recommend").header("X-Client-Id", clientId))
+                    .andReturn();
+
+            // then
+            String firstName = objectMapper.readTree(first.getResponse().getContentAsString()).at("/data/name").asText();
+            String secondName = objectMapper.readTree(second.getResponse().getContentAsString()).at("/data/name").asText();
+            assertThat(secondName).isNotEqualTo(firstName);
+            assertThat(first.getRequest().getSession(false)).isNull();
+        }
+
+        @Test
+        @DisplayName("헤더가 없으면 세션 없이 클라이언트 ID를 발급하고, 쿠키로 다음 요청의 기록을 이어간다")
+        void issuesClientIdCookieWithoutSession() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+
+            // when
+            MvcResult first = mockMvc.perform(get("/api/menus/recommend"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("X-Client-Id"))
+                    .andExpect(cookie().httpOnly(ClientIdResolver.COOKIE, true))
+                    .andReturn();
+            Cookie issued = first.getResponse().getCookie(ClientIdResolver.COOKIE);
+            MvcResult second = mockMvc.perform(get("/api/menus/recommend").cookie(issued))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("X-Client-Id"))
+                    .andReturn();
+
+            // then
+            assertThat(issued.getValue()).isEqualTo(first.getResponse().getHeader("X-Client-Id"));
+            String firstName = objectMapper.readTree(first.getResponse().getContentAsString()).at("/data/name").asText();
+            String secondName = objectMapper.readTree(second.getResponse().getContentAsString()).at("/data/name").asText();
+            assertThat(secondName).isNotEqualTo(firstName);
+            assertThat(first.getRequest().getSession(false)).isNull();
+        }
+
+        @Test
+        @DisplayName("서버가 발급하지 않은 X-Client-Id로는 기록을 읽거나 지울 수 없다")
+        void rejectsForgedClientId() throws Exception {
+            // given
+            String issued = clientIdResolver.issue();
+            String forged = issued.substring(0, issued.indexOf('.')) + ".forged";
+
+            // when & then
+            mockMvc.perform(get("/api/menus/recommend").header("X-Client-Id", "other-client"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(delete("/api/menus/recommend/history").header("X-Client-Id", forged))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("count를 지정하면 서로 다른 메뉴를 여러 개 추천한다")
+        void recommendsMultipleMenus() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+            createAndSaveMenu("초밥", Category.JAPANESE);
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/menus/recommend")
+                            .param("count", "2")
+                            .header("X-Client-Id", clientIdResolver.issue()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andReturn();
+
+            // then
+            var data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+            assertThat(data.get(0).get("id").asLong()).isNotEqualTo(data.get(1).get("id").asLong());
+        }
+
+        @Test
+        @DisplayName("category를 여러 개 지정하면 해당 카테고리 메뉴 중에서만 추천한다")
+        void recommendsWithinCategories() throws Exception {
+            // given
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+            createAndSaveMenu("짜장면", Category.CHINESE);
+            createAndSaveMenu("초밥", Category.JAPANESE);
+
+            // when & then
+            mockMvc.perform(get("/api/menus/recommend")
+                            .param("category", "CHINESE", "JAPANESE")
+                            .param("count", "5")
+                            .header("X-Client-Id", clientIdResolver.issue()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andExpect(jsonPath("$.data[*].category", everyItem(not("KOREAN"))));
+
+            mockMvc.perform(get("/api/menus/recommend")
+                            .param("category", "KOREAN")
+                            .header("X-Client-Id", clientIdResolver.issue()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.name").value("김치찌개"));
+        }
+
+        @Test
+        @DisplayName("속성 조건을 만족하는 메뉴가 없으면 에러 응답을, 범위가 잘못되면 400을 반환한다")
+        void recommendsWithAttributeFilter() throws Exception {
+            // given - 테스트 메뉴는 모두 맵기 1, 가중치 2
+            createAndSaveMenu("김치찌개", Category.KOREAN);
+
+            // when & then
+            mockMvc.perform(get("/api/menus/recommend").param("maxSpicyLevel", "1").param("maxWeight", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.name").value("김치찌개"));
+
+            mockMvc.perform(get("/api/menus/recommend").param("minWeight", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            mockMvc.perform(get("/api/menus/recommend").param("minWeight", "5").param("maxWeight", "1"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("메뉴가 없으면 에러 응답을 반환한다")
         void returnsErrorWhenNoMenus() throws Exception {
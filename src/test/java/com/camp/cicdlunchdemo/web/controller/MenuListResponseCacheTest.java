@@ -0,0 +1,85 @@
+package com.camp.cicdlunchdemo.web.controller;
+
+import com.camp.cicdlunchdemo.config.ResponseCacheProperties;
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.web.controller.MenuListResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MenuListResponseCache 단위 테스트")
+class MenuListResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ResponseCacheProperties properties;
+    private MenuListResponseCache cache;
+    private AtomicInteger serializations;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        cache = new MenuListResponseCache(objectMapper, properties);
+        serializations = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 지문/카테고리/표현이면 한 번만 직렬화하고, 지문이 바뀌면 다시 직렬화한다")
+    void serializesOncePerFingerprintAndCategory() {
+        // when
+        SerializedResponse first = cache.get("1-1-0", null, false, this::body);
+        SerializedResponse second = cache.get("1-1-0", null, false, this::body);
+        cache.get("1-1-0", Category.KOREAN, false, this::body);
+        cache.get("1-1-0", null, true, this::body);
+        SerializedResponse afterChange = cache.get("2-2-0", null, false, this::body);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(afterChange).isNotSameAs(first);
+        assertThat(serializations).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 응답은 gzip 압축본을 함께 만들고, 작은 응답은 압축하지 않는다")
+    void gzipsOnlyAboveThreshold() throws IOException {
+        // given
+        properties.setGzipMinSize(16);
+
+        // when
+        SerializedResponse large = cache.get("1-1-0", null, false, () -> Map.of("name", "김치찌개".repeat(10)));
+        SerializedResponse small = cache.get("1-1-0", Category.KOREAN, false, () -> Map.of("a", 1));
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+        assertThat(small.gzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 직렬화한다")
+    void serializesEveryTimeWhenDisabled() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        cache.get("1-1-0", null, false, this::body);
+        cache.get("1-1-0", null, false, this::body);
+
+        // then
+        assertThat(serializations).hasValue(2);
+    }
+
+    private Object body() {
+        serializations.incrementAndGet();
+        return Map.of("success", true);
+    }
+}
@@ -0,0 +1,122 @@
+package com.camp.cicdlunchdemo.web.controller;
+
+import com.camp.cicdlunchdemo.domain.entity.Category;
+import com.camp.cicdlunchdemo.domain.entity.LunchMenu;
+import com.camp.cicdlunchdemo.domain.repository.LunchMenuRepository;
+import com.camp.cicdlunchdemo.domain.service.catalog.MenuCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("ReactiveLunchMenuApiController 통합 테스트")
+class ReactiveLunchMenuApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LunchMenuRepository lunchMenuRepository;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private ClientIdResolver clientIdResolver;
+
+    @BeforeEach
+    void setUp() {
+        lunchMenuRepository.deleteAll();
+        menuCatalog.invalidate();
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷에서 메뉴를 추천한다")
+    void recommendsMenuFromCatalog() throws Exception {
+        // given - 테스트 트랜잭션 데이터가 보이도록 현재 스레드에서 스냅샷을 미리 구성
+        LunchMenu menu = lunchMenuRepository.save(LunchMenu.builder()
+                .name("김치찌개")
+                .category(Category.KOREAN)
+                .weight(1)
+                .build());
+        menuCatalog.getSnapshot();
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/reactive/menus/recommend")
+                        .header("X-Client-Id", clientIdResolver.issue()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.id").value(menu.getId()));
+    }
+
+    @Test
+    @DisplayName("카테고리 조건을 지정하면 해당 카테고리의 메뉴만 추천한다")
+    void recommendsMenuWithinCategory() throws Exception {
+        // given
+        lunchMenuRepository.save(LunchMenu.builder().name("김치찌개").category(Category.KOREAN).weight(5).build());
+        LunchMenu sushi = lunchMenuRepository.save(LunchMenu.builder()
+                .name("초밥")
+                .category(Category.JAPANESE)
+                .weight(1)
+                .build());
+        menuCatalog.getSnapshot();
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/reactive/menus/recommend")
+                        .param("category", "JAPANESE")
+                        .header("X-Client-Id", clientIdResolver.issue()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(sushi.getId()));
+    }
+
+    @Test
+    @DisplayName("범위 조건이 잘못되면 400을 반환한다")
+    void returns400WhenFilterRangeIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/reactive/menus/recommend")
+                        .param("minSpicyLevel", "3")
+                        .param("maxSpicyLevel", "1")
+                        .header("X-Client-Id", clientIdResolver.issue()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 전략이면 400을 반환한다")
+    void returns400WhenUnknownStrategy() throws Exception {
+        // given
+        menuCatalog.getSnapshot();
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/reactive/menus/recommend")
+                        .param("strategy", "UNKNOWN")
+                        .header("X-Client-Id", clientIdResolver.issue()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,2 @@
+-- ddl-auto(create-drop)로 만든 테스트 스키마에 V6 마이그레이션과 같은 구간 카운터 행을 넣음 (Hibernate가 스키마 생성 후 실행)
+INSERT INTO weight_interval_counter (id, next_start) VALUES (1, 0);